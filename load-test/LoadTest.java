@@ -0,0 +1,135 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal closed-loop load generator for the transaction list and create endpoints.
+ * JDK only, run straight from source:
+ *
+ *   java load-test/LoadTest.java [baseUrl] [scenario: list|create] [clients] [seconds]
+ *
+ * Each client logs in as the dev test user, then sends requests back to back for the given
+ * duration. Prints throughput and latency percentiles; compare runs of the server started
+ * with VIRTUAL_THREADS=true and VIRTUAL_THREADS=false (see README, "Load testing").
+ */
+public class LoadTest {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern EXPENSE_CATEGORY_ID =
+            Pattern.compile("\"id\"\\s*:\\s*(\\d+)\\s*,\\s*\"name\"\\s*:\\s*\"[^\"]*\"\\s*,\\s*\"type\"\\s*:\\s*\"EXPENSE\"");
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8081";
+        String scenario = args.length > 1 ? args[1] : "list";
+        int clients = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(4))
+                .build();
+
+        String token = match(TOKEN, send(http, post(baseUrl + "/api/auth/login", null,
+                "{\"email\":\"test@example.com\",\"password\":\"password123\"}")));
+        String accountId = match(ID, send(http, post(baseUrl + "/api/accounts", token,
+                "{\"name\":\"Load test\",\"type\":\"BANK\",\"balance\":0}")));
+        String categoryId = match(EXPENSE_CATEGORY_ID, send(http, get(baseUrl + "/api/categories", token)));
+
+        HttpRequest list = get(baseUrl + "/api/transactions?page=0&size=20", token);
+        String createBody = "{\"type\":\"EXPENSE\",\"amount\":1.50,\"categoryId\":" + categoryId
+                + ",\"accountId\":" + accountId + ",\"description\":\"load test\",\"date\":\"" + LocalDate.now() + "\"}";
+
+        List<long[]> latencies = new ArrayList<>();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        ExecutorService workers = Executors.newFixedThreadPool(clients);
+        for (int i = 0; i < clients; i++) {
+            long[] samples = new long[1 << 18];
+            latencies.add(samples);
+            workers.submit(() -> {
+                int count = 0;
+                while (System.nanoTime() < deadline && count < samples.length - 1) {
+                    HttpRequest request = "create".equals(scenario)
+                            ? post(baseUrl + "/api/transactions", token, createBody)
+                            : list;
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() >= 300) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        errors.incrementAndGet();
+                    }
+                    samples[++count] = System.nanoTime() - start;
+                }
+                samples[0] = count;
+                return null;
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+
+        long[] all = latencies.stream()
+                .flatMapToLong(samples -> Arrays.stream(samples, 1, (int) samples[0] + 1))
+                .sorted()
+                .toArray();
+        System.out.printf("scenario=%s clients=%d duration=%ds%n", scenario, clients, seconds);
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                all.length, errors.get(), all.length / (double) seconds);
+        System.out.printf("latency ms: p50=%.1f p95=%.1f p99=%.1f max=%.1f%n",
+                percentile(all, 50), percentile(all, 95), percentile(all, 99), percentile(all, 100));
+        System.exit(0);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static HttpRequest get(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest post(String url, String token, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private static String send(HttpClient http, HttpRequest request) throws Exception {
+        return http.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private static String match(Pattern pattern, String body) {
+        Matcher matcher = pattern.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected response: " + body);
+        }
+        return matcher.group(1);
+    }
+}
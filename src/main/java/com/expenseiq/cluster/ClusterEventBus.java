@@ -0,0 +1,256 @@
+package com.expenseiq.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts small messages to the other nodes of the cluster over PostgreSQL LISTEN/NOTIFY,
+ * for state that lives in node memory (search indexes, event stream connections). A message
+ * is sent by a dedicated thread, so publishers never wait on the database, and each node
+ * listens on its own connection and skips the messages it sent itself. Delivery is
+ * best-effort: messages sent while a node is reconnecting, or dropped because the send queue
+ * is full or the payload is over the NOTIFY limit, are lost, so consumers keep a fallback
+ * (TTL, polling). On databases other than PostgreSQL there is only one node and publishing
+ * does nothing.
+ */
+@Slf4j
+@Component
+public class ClusterEventBus {
+
+    // PostgreSQL rejects NOTIFY payloads of 8000 bytes or more
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private record Envelope(String node, String topic, JsonNode payload) {}
+
+    private record Subscription(Class<?> type, List<Consumer<Object>> handlers) {}
+
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final BlockingQueue<String> outgoing;
+    private final Counter sent;
+    private final Counter received;
+    private final Counter dropped;
+    private final String channel;
+    private final long listenTimeoutMs;
+    private final long reconnectDelayMs;
+    private volatile boolean running;
+    private Thread sender;
+    private Thread listener;
+
+    public ClusterEventBus(DataSourceProperties dataSourceProperties,
+                           JdbcTemplate jdbcTemplate,
+                           ObjectMapper objectMapper,
+                           @Value("${cluster.channel}") String channel,
+                           @Value("${cluster.listen-timeout}") long listenTimeoutMs,
+                           @Value("${cluster.reconnect-delay}") long reconnectDelayMs,
+                           @Value("${cluster.send-queue-capacity}") int sendQueueCapacity,
+                           MeterRegistry meterRegistry) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("cluster.channel must be a lower case identifier: " + channel);
+        }
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.listenTimeoutMs = listenTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.outgoing = new ArrayBlockingQueue<>(sendQueueCapacity);
+        this.sent = Counter.builder("cluster.messages")
+                .tag("result", "sent")
+                .description("Messages broadcast to the other nodes")
+                .register(meterRegistry);
+        this.received = Counter.builder("cluster.messages")
+                .tag("result", "received")
+                .description("Messages received from other nodes")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("cluster.messages")
+                .tag("result", "dropped")
+                .description("Messages not broadcast: queue full, payload too large or send failed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isPostgres()) {
+            log.info("Cluster event bus disabled: not running on PostgreSQL");
+            return;
+        }
+        running = true;
+        sender = startThread("cluster-sender", this::sendLoop);
+        listener = startThread("cluster-listener", this::listenLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (sender != null) {
+            sender.interrupt();
+        }
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    /** Handlers run on the listener thread for messages published by other nodes, so they must not block. */
+    @SuppressWarnings("unchecked")
+    public <T> void subscribe(String topic, Class<T> payloadType, Consumer<T> handler) {
+        subscriptions.computeIfAbsent(topic, key -> new Subscription(payloadType, new CopyOnWriteArrayList<>()))
+                .handlers().add((Consumer<Object>) handler);
+    }
+
+    /**
+     * Queues a message for the other nodes. Sent right away, so callers publishing the effect of
+     * a write call this after the write has committed.
+     */
+    public void publish(String topic, Object payload) {
+        if (!running) {
+            return;
+        }
+        String message;
+        try {
+            message = objectMapper.writeValueAsString(new Envelope(nodeId, topic, objectMapper.valueToTree(payload)));
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            log.warn("Could not serialize cluster message for topic {}", topic, ex);
+            dropped.increment();
+            return;
+        }
+        if (message.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            log.warn("Cluster message for topic {} exceeds the NOTIFY payload limit, not broadcast", topic);
+            dropped.increment();
+            return;
+        }
+        if (!outgoing.offer(message)) {
+            dropped.increment();
+        }
+    }
+
+    private void sendLoop() {
+        List<String> messages = new ArrayList<>();
+        while (running) {
+            try {
+                messages.add(outgoing.take());
+                outgoing.drainTo(messages);
+                jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                    try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                        for (String message : messages) {
+                            statement.setString(1, channel);
+                            statement.setString(2, message);
+                            statement.execute();
+                        }
+                    }
+                    return null;
+                });
+                sent.increment(messages.size());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                log.warn("Could not broadcast {} cluster messages", messages.size(), ex);
+                dropped.increment(messages.size());
+            } finally {
+                messages.clear();
+            }
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) listenTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cluster listener connection failed, reconnecting in {} ms", reconnectDelayMs, ex);
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(String message) {
+        Envelope envelope;
+        try {
+            envelope = objectMapper.readValue(message, Envelope.class);
+        } catch (JsonProcessingException ex) {
+            log.warn("Ignoring malformed cluster message", ex);
+            return;
+        }
+        if (nodeId.equals(envelope.node())) {
+            return;
+        }
+        received.increment();
+        Subscription subscription = subscriptions.get(envelope.topic());
+        if (subscription == null) {
+            return;
+        }
+        try {
+            Object payload = objectMapper.treeToValue(envelope.payload(), subscription.type());
+            for (Consumer<Object> handler : subscription.handlers()) {
+                handler.accept(payload);
+            }
+        } catch (Exception ex) {
+            log.warn("Cluster message handler for topic {} failed", envelope.topic(), ex);
+        }
+    }
+
+    private boolean isPostgres() {
+        String url = dataSourceProperties.determineUrl();
+        return url != null && url.startsWith("jdbc:postgresql:");
+    }
+
+    private static Thread startThread(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+}
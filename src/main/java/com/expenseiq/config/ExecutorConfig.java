@@ -0,0 +1,115 @@
+package com.expenseiq.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors follow spring.threads.virtual.enabled: on a Java 21+ runtime with the flag set they
+ * hand out virtual threads, otherwise they are bounded platform thread pools.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Default executor for @Async and MVC async work. Declared here because defining any
+     * Executor bean makes Spring Boot back off from creating it.
+     */
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public AsyncTaskExecutor applicationTaskExecutor(Environment environment,
+                                                     SimpleAsyncTaskExecutorBuilder virtualThreadExecutorBuilder,
+                                                     ThreadPoolTaskExecutorBuilder threadPoolExecutorBuilder) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return virtualThreadExecutorBuilder.build();
+        }
+        return threadPoolExecutorBuilder.build();
+    }
+
+    /**
+     * Runs dashboard sections in parallel. Each task holds a pooled DB connection while it runs,
+     * so concurrency stays well below the Hikari pool size. With platform threads the request
+     * thread runs the section itself when the pool is saturated instead of queueing behind
+     * other users; with virtual threads the concurrency limit makes callers wait instead.
+     */
+    @Bean
+    public AsyncTaskExecutor dashboardExecutor(Environment environment,
+                                               @Value("${dashboard.executor.pool-size}") int poolSize,
+                                               @Value("${dashboard.executor.queue-capacity}") int queueCapacity) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dashboard-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(poolSize);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs monthly summary ranges in parallel. Each range holds a connection for its streaming
+     * reads and batched writes, so parallelism stays below the Hikari pool size; ranges beyond
+     * that wait in the queue.
+     */
+    @Bean
+    public AsyncTaskExecutor summaryExecutor(Environment environment,
+                                             @Value("${monthly-summary.parallelism}") int parallelism) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("summary-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(parallelism);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("summary-");
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Writes buffered server-sent events to clients. A drain can block on a slow socket, so it
+     * never runs on the publishing thread; when the pool is saturated the drain is rejected
+     * and the events wait in the connection's buffer for the next attempt.
+     */
+    @Bean
+    public AsyncTaskExecutor streamExecutor(Environment environment,
+                                            @Value("${stream.executor.pool-size}") int poolSize,
+                                            @Value("${stream.executor.queue-capacity}") int queueCapacity) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("stream-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("stream-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        return executor;
+    }
+}
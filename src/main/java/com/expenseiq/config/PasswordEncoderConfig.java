@@ -0,0 +1,112 @@
+package com.expenseiq.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Builds the password encoder from security.password.*. With calibration on, the work factor
+ * (BCrypt strength or Argon2 iterations) is raised at startup to the highest value whose hash
+ * still fits the latency budget on this machine, never below the configured minimum.
+ *
+ * Hashes are stored with an {id} prefix; bare legacy BCrypt hashes still verify. Hashes made
+ * with another algorithm or a lower work factor are upgraded on the next successful login.
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String CALIBRATION_SAMPLE = "calibration-sample-password";
+    private static final int CALIBRATION_RUNS = 3;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int MAX_ARGON2_ITERATIONS = 20;
+
+    @Value("${security.password.algorithm}")
+    private String algorithm;
+
+    @Value("${security.password.calibrate}")
+    private boolean calibrate;
+
+    @Value("${security.password.target-ms}")
+    private long targetMs;
+
+    @Value("${security.password.bcrypt-strength}")
+    private int bcryptStrength;
+
+    @Value("${security.password.argon2.memory-kb}")
+    private int argon2MemoryKb;
+
+    @Value("${security.password.argon2.iterations}")
+    private int argon2Iterations;
+
+    @Value("${security.password.argon2.parallelism}")
+    private int argon2Parallelism;
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        String idForEncode = algorithm.toLowerCase();
+        PasswordEncoder bcrypt;
+        PasswordEncoder argon2;
+
+        if ("argon2".equals(idForEncode)) {
+            int iterations = calibrate
+                    ? calibrate("argon2 iterations", argon2Iterations, MAX_ARGON2_ITERATIONS, this::argon2)
+                    : argon2Iterations;
+            argon2 = argon2(iterations);
+            bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        } else if ("bcrypt".equals(idForEncode)) {
+            int strength = calibrate
+                    ? calibrate("bcrypt strength", bcryptStrength, MAX_BCRYPT_STRENGTH, BCryptPasswordEncoder::new)
+                    : bcryptStrength;
+            bcrypt = new BCryptPasswordEncoder(strength);
+            argon2 = argon2(argon2Iterations);
+        } else {
+            throw new IllegalStateException("Unsupported security.password.algorithm: " + algorithm);
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode,
+                Map.of("bcrypt", bcrypt, "argon2", argon2));
+        // Hashes created before the {id} prefix was introduced are plain BCrypt
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    private Argon2PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(16, 32, argon2Parallelism, argon2MemoryKb, iterations);
+    }
+
+    private int calibrate(String parameter, int minimum, int maximum, IntFunction<PasswordEncoder> factory) {
+        int chosen = minimum;
+        long chosenMs = measure(factory.apply(minimum));
+        for (int cost = minimum + 1; cost <= maximum; cost++) {
+            long elapsedMs = measure(factory.apply(cost));
+            if (elapsedMs > targetMs) {
+                break;
+            }
+            chosen = cost;
+            chosenMs = elapsedMs;
+        }
+        log.info("Calibrated {} to {} ({} ms per hash, budget {} ms)", parameter, chosen, chosenMs, targetMs);
+        return chosen;
+    }
+
+    private static long measure(PasswordEncoder encoder) {
+        // First call warms up the code path; the fastest of the timed runs discounts JIT and GC noise
+        encoder.encode(CALIBRATION_SAMPLE);
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < CALIBRATION_RUNS; run++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_SAMPLE);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000;
+    }
+}
@@ -0,0 +1,60 @@
+package com.expenseiq.config;
+
+import com.expenseiq.entity.BaseEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Entity ids moved from IDENTITY columns to pooled sequences. On PostgreSQL databases
+ * that already hold rows, advances each {entity}_seq past the table's current max id
+ * so newly allocated id blocks never collide with existing rows.
+ * Nodes starting together take turns on an advisory lock, and a sequence is only ever
+ * moved forward: once it is past the table's max id it is left alone.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SequenceAlignmentInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void alignSequences() {
+        if (!isPostgres()) {
+            return;
+        }
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            Table table = entity.getJavaType().getAnnotation(Table.class);
+            if (table == null || !BaseEntity.class.isAssignableFrom(entity.getJavaType())) {
+                continue;
+            }
+            String sequence = entity.getName().toLowerCase() + "_seq";
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.execute("SELECT pg_advisory_xact_lock(hashtext('sequence-alignment'))");
+                    jdbcTemplate.execute("SELECT setval('" + sequence + "', max_id) FROM " +
+                            "(SELECT MAX(id) AS max_id FROM " + table.name() + ") t " +
+                            "WHERE max_id > (SELECT last_value FROM " + sequence + ")");
+                });
+            } catch (Exception ex) {
+                log.warn("Could not align sequence {} with table {}", sequence, table.name(), ex);
+            }
+        }
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("postgres");
+    }
+}
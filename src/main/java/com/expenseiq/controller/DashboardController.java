@@ -0,0 +1,37 @@
+package com.expenseiq.controller;
+
+import com.expenseiq.dto.response.ApiResponse;
+import com.expenseiq.dto.response.DashboardResponse;
+import com.expenseiq.security.SecurityUser;
+import com.expenseiq.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<DashboardResponse>> getDashboard(
+            @AuthenticationPrincipal SecurityUser currentUser) {
+        DashboardService.Dashboard dashboard = dashboardService.getDashboard(currentUser.getId());
+
+        // Per-section load times, e.g. "summary;dur=12, budgets;dur=8"
+        String serverTiming = dashboard.sectionTimings().entrySet().stream()
+                .map(entry -> entry.getKey() + ";dur=" + entry.getValue())
+                .collect(Collectors.joining(", "));
+
+        return ResponseEntity.ok()
+                .header("Server-Timing", serverTiming)
+                .body(ApiResponse.success("Dashboard retrieved successfully", dashboard.response()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.expenseiq.controller;
+
+import com.expenseiq.dto.response.ApiResponse;
+import com.expenseiq.dto.response.CursorPageResponse;
+import com.expenseiq.dto.response.NotificationResponse;
+import com.expenseiq.security.SecurityUser;
+import com.expenseiq.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorPageResponse<NotificationResponse>>> getNotifications(
+            @AuthenticationPrincipal SecurityUser currentUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean unreadOnly) {
+
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        CursorPageResponse<NotificationResponse> notifications = notificationService.getNotifications(
+                currentUser.getId(), cursor, pageSize, unreadOnly);
+        return ResponseEntity.ok(ApiResponse.success("Notifications retrieved successfully", notifications));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<Long>> getUnreadCount(@AuthenticationPrincipal SecurityUser currentUser) {
+        long count = notificationService.getUnreadCount(currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success("Unread count retrieved successfully", count));
+    }
+
+    @PatchMapping("/{id}/read")
+    public ResponseEntity<ApiResponse<Void>> markRead(
+            @AuthenticationPrincipal SecurityUser currentUser,
+            @PathVariable Long id) {
+        notificationService.markRead(currentUser.getId(), id);
+        return ResponseEntity.ok(ApiResponse.success("Notification marked as read", null));
+    }
+
+    @PatchMapping("/read-all")
+    public ResponseEntity<ApiResponse<Integer>> markAllRead(@AuthenticationPrincipal SecurityUser currentUser) {
+        int updated = notificationService.markAllRead(currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success("Notifications marked as read", updated));
+    }
+}
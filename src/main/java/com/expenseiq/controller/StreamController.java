@@ -0,0 +1,37 @@
+package com.expenseiq.controller;
+
+import com.expenseiq.security.SecurityUser;
+import com.expenseiq.service.NotificationService;
+import com.expenseiq.stream.UserEventStream;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Push channel for balance changes, notifications and budget thresholds. Authenticated like
+ * every other endpoint (Authorization header), so clients use a fetch-based SSE reader.
+ */
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+public class StreamController {
+
+    private final UserEventStream userEventStream;
+    private final NotificationService notificationService;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal SecurityUser currentUser, HttpServletResponse response) {
+        // Keep reverse proxies from buffering the stream
+        response.setHeader("X-Accel-Buffering", "no");
+        response.setHeader("Cache-Control", "no-cache");
+
+        // Start from the current badge so the client no longer needs to poll for it
+        return userEventStream.connect(currentUser.getId(), UserEventStream.EVENT_UNREAD_COUNT,
+                notificationService.getUnreadCount(currentUser.getId()));
+    }
+}
@@ -2,10 +2,17 @@ package com.expenseiq.controller;
 
 import com.expenseiq.dto.request.TransactionRequest;
 import com.expenseiq.dto.response.ApiResponse;
+import com.expenseiq.dto.response.BulkImportResponse;
+import com.expenseiq.dto.response.CursorPageResponse;
 import com.expenseiq.dto.response.TransactionResponse;
+import com.expenseiq.enums.ExportFormat;
 import com.expenseiq.enums.TransactionType;
+import com.expenseiq.exception.BadRequestException;
 import com.expenseiq.security.SecurityUser;
+import com.expenseiq.service.TransactionExportService;
+import com.expenseiq.service.TransactionImportService;
 import com.expenseiq.service.TransactionService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -13,11 +20,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -29,6 +40,8 @@ import java.util.Map;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionImportService transactionImportService;
+    private final TransactionExportService transactionExportService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<TransactionResponse>> createTransaction(
@@ -39,6 +52,24 @@ public class TransactionController {
                 .body(ApiResponse.success("Transaction created successfully", response));
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<BulkImportResponse>> importTransactions(
+            @AuthenticationPrincipal SecurityUser currentUser,
+            @RequestBody List<TransactionRequest> requests) {
+        BulkImportResponse response = transactionImportService.importTransactions(currentUser.getId(), requests);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Transactions imported successfully", response));
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<BulkImportResponse>> importTransactionsCsv(
+            @AuthenticationPrincipal SecurityUser currentUser,
+            HttpServletRequest request) throws IOException {
+        BulkImportResponse response = transactionImportService.importCsv(currentUser.getId(), request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Transactions imported successfully", response));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<TransactionResponse>> updateTransaction(
             @AuthenticationPrincipal SecurityUser currentUser,
@@ -94,6 +125,54 @@ public class TransactionController {
         return ResponseEntity.ok(ApiResponse.success("Transactions retrieved successfully", transactions));
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TransactionResponse>>> getTransactionsByCursor(
+            @AuthenticationPrincipal SecurityUser currentUser,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        CursorPageResponse<TransactionResponse> transactions = transactionService.getTransactionsByCursor(
+                currentUser.getId(), cursor, pageSize);
+        return ResponseEntity.ok(ApiResponse.success("Transactions retrieved successfully", transactions));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<TransactionResponse>>> searchTransactions(
+            @AuthenticationPrincipal SecurityUser currentUser,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<TransactionResponse> transactions = transactionService.searchTransactions(
+                currentUser.getId(), query, Math.min(Math.max(limit, 1), 100));
+        return ResponseEntity.ok(ApiResponse.success("Transactions retrieved successfully", transactions));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @AuthenticationPrincipal SecurityUser currentUser,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        ExportFormat exportFormat = parseExportFormat(format);
+        Long userId = currentUser.getId();
+        LocalDate from = startDate != null ? startDate : LocalDate.of(1900, 1, 1);
+        LocalDate to = endDate != null ? endDate : LocalDate.now();
+
+        MediaType contentType = exportFormat == ExportFormat.CSV
+                ? MediaType.parseMediaType("text/csv")
+                : MediaType.parseMediaType("application/x-ndjson");
+        String filename = "transactions." + exportFormat.name().toLowerCase();
+
+        StreamingResponseBody body = output ->
+                transactionExportService.exportTransactions(userId, from, to, exportFormat, output);
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
     @GetMapping("/summary")
     public ResponseEntity<ApiResponse<Map<String, BigDecimal>>> getTransactionSummary(
             @AuthenticationPrincipal SecurityUser currentUser,
@@ -120,4 +199,12 @@ public class TransactionController {
                 currentUser.getId(), limit);
         return ResponseEntity.ok(ApiResponse.success("Recent transactions retrieved successfully", transactions));
     }
+
+    private ExportFormat parseExportFormat(String format) {
+        try {
+            return ExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package com.expenseiq.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardResponse {
+    private Map<String, BigDecimal> summary;
+    private List<TransactionResponse> recentTransactions;
+    private List<BudgetResponse> budgets;
+    private List<GoalResponse> goals;
+    private List<AccountResponse> accounts;
+}
@@ -0,0 +1,22 @@
+package com.expenseiq.dto.response;
+
+import com.expenseiq.enums.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationResponse {
+    private Long id;
+    private NotificationType type;
+    private String title;
+    private String message;
+    private Boolean isRead;
+    private LocalDateTime createdAt;
+}
@@ -32,4 +32,7 @@ public class Budget extends BaseEntity {
 
     @Column(nullable = false)
     private Integer year;
+
+    // Highest alert threshold (percent) already notified for this budget
+    private Integer alertedThreshold;
 }
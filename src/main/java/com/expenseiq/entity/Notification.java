@@ -5,7 +5,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+    @Index(name = "idx_notifications_user_id", columnList = "user_id, id"),
+    @Index(name = "idx_notifications_user_unread", columnList = "user_id, is_read")
+})
 @Getter
 @Setter
 @NoArgsConstructor
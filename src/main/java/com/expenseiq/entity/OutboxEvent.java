@@ -0,0 +1,47 @@
+package com.expenseiq.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_user_sequence", columnList = "user_id, user_sequence")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent extends BaseEntity {
+
+    // Not a foreign key, so pending events never block deleting the user
+    @Column(name = "user_id")
+    private Long userId;
+
+    // Ordering key: a user's events are numbered in commit order (see OutboxSequence) and
+    // delivered in that order. Ids are pooled per node, so they are not.
+    @Column(name = "user_sequence", nullable = false, columnDefinition = "bigint default 0")
+    private Long userSequence;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    // Set after a failed delivery; the event (and the user's later events) wait until then
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // Gave up after outbox.max-attempts; kept for inspection, no longer delivered
+    @Column(name = "dead_letter", nullable = false)
+    private Boolean deadLetter = false;
+}
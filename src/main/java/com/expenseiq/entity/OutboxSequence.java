@@ -0,0 +1,27 @@
+package com.expenseiq.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Last outbox sequence number handed out for a user. The row is locked from numbering an
+ * event until its transaction commits, so a user's events commit in sequence order.
+ * Keyed by the user id (not a foreign key, like outbox_events.user_id) so the first row of a
+ * user can be inserted with plain SQL.
+ */
+@Entity
+@Table(name = "outbox_sequences")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxSequence {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+}
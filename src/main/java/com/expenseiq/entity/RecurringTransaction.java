@@ -9,7 +9,9 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "recurring_transactions")
+@Table(name = "recurring_transactions", indexes = {
+    @Index(name = "idx_recurring_transactions_next_date", columnList = "next_date, is_active")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -42,6 +44,10 @@ public class RecurringTransaction extends BaseEntity {
     @Column(nullable = false)
     private Frequency frequency;
 
+    // First occurrence; monthly and yearly dates are computed from it so short months do not
+    // pull later occurrences earlier. Null on schedules created before it was recorded.
+    private LocalDate startDate;
+
     @Column(nullable = false)
     private LocalDate nextDate;
 
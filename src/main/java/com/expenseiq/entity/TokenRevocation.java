@@ -0,0 +1,38 @@
+package com.expenseiq.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A revoked access token (by jti) or a revocation of every token a user was issued up to
+ * {@code revokedAt}. Shared by all nodes; rows are only needed until the tokens they cover expire.
+ */
+@Entity
+@Table(name = "token_revocations", indexes = {
+    @Index(name = "idx_token_revocations_token_id", columnList = "token_id"),
+    @Index(name = "idx_token_revocations_user", columnList = "user_id, revoked_at"),
+    @Index(name = "idx_token_revocations_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenRevocation extends BaseEntity {
+
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    // Plain id rather than a relation: revocations outlive deleted users
+    @Column(name = "user_id")
+    private Long userId;
+
+    // Epoch seconds, compared with the token's iat
+    @Column(name = "revoked_at", nullable = false)
+    private Long revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
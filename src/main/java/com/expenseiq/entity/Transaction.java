@@ -8,7 +8,14 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", uniqueConstraints = {
+    // At most one generated transaction per recurring schedule and date
+    @UniqueConstraint(name = "uk_transactions_recurring_date", columnNames = {"recurring_id", "date"})
+}, indexes = {
+    @Index(name = "idx_transactions_user_date", columnList = "user_id, date, created_at, id"),
+    @Index(name = "idx_transactions_user_category_date", columnList = "user_id, category_id, date"),
+    @Index(name = "idx_transactions_user_account_date", columnList = "user_id, account_id, date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
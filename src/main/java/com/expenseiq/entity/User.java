@@ -1,11 +1,13 @@
 package com.expenseiq.entity;
 
 import com.expenseiq.enums.Role;
+import com.expenseiq.security.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCacheInvalidationListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
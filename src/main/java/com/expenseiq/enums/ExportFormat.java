@@ -0,0 +1,6 @@
+package com.expenseiq.enums;
+
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
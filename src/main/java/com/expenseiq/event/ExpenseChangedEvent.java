@@ -0,0 +1,32 @@
+package com.expenseiq.event;
+
+import com.expenseiq.entity.Transaction;
+import com.expenseiq.enums.TransactionType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Spending in one (user, category, month) changed. Written to the outbox by the transaction
+ * that changed it and delivered to subscribers after it commits.
+ */
+public record ExpenseChangedEvent(Long userId, Long categoryId, int year, int month) {
+
+    public static ExpenseChangedEvent of(Transaction transaction) {
+        return new ExpenseChangedEvent(
+                transaction.getUser().getId(),
+                transaction.getCategory().getId(),
+                transaction.getDate().getYear(),
+                transaction.getDate().getMonthValue());
+    }
+
+    // One event per distinct period touched by the expenses in a batch
+    public static List<ExpenseChangedEvent> of(Collection<Transaction> transactions) {
+        return transactions.stream()
+                .filter(transaction -> transaction.getType() == TransactionType.EXPENSE)
+                .map(ExpenseChangedEvent::of)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
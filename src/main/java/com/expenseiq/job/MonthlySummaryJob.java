@@ -0,0 +1,116 @@
+package com.expenseiq.job;
+
+import com.expenseiq.repository.UserRepository;
+import com.expenseiq.service.JobLockService;
+import com.expenseiq.service.MonthlySummaryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends every active user a summary of the month that just ended. The user id space is cut
+ * into fixed ranges that run in parallel on the summary executor; a failed range is logged
+ * and left for a re-run, which skips users already summarized.
+ */
+@Slf4j
+@Component
+public class MonthlySummaryJob {
+
+    private static final String LOCK_NAME = "monthly-summary";
+
+    private final UserRepository userRepository;
+    private final MonthlySummaryService monthlySummaryService;
+    private final JobLockService jobLockService;
+    private final AsyncTaskExecutor summaryExecutor;
+    private final Counter summarizedUsers;
+    private final Timer runTimer;
+    private volatile double lastUsersPerSecond;
+
+    @Value("${monthly-summary.range-size}")
+    private long rangeSize;
+
+    @Value("${monthly-summary.lease}")
+    private long leaseMs;
+
+    public MonthlySummaryJob(UserRepository userRepository,
+                             MonthlySummaryService monthlySummaryService,
+                             JobLockService jobLockService,
+                             @Qualifier("summaryExecutor") AsyncTaskExecutor summaryExecutor,
+                             MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.monthlySummaryService = monthlySummaryService;
+        this.jobLockService = jobLockService;
+        this.summaryExecutor = summaryExecutor;
+        this.summarizedUsers = Counter.builder("monthly.summary.users")
+                .description("Users that received a monthly summary")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("monthly.summary.duration")
+                .description("Wall time of a monthly summary run")
+                .register(meterRegistry);
+        meterRegistry.gauge("monthly.summary.throughput", this, job -> job.lastUsersPerSecond);
+    }
+
+    @Scheduled(cron = "${monthly-summary.cron}")
+    public void summarizePreviousMonth() {
+        summarize(YearMonth.now().minusMonths(1));
+    }
+
+    public void summarize(YearMonth period) {
+        if (!jobLockService.tryAcquire(LOCK_NAME, Duration.ofMillis(leaseMs))) {
+            return;
+        }
+        try {
+            run(period);
+        } finally {
+            jobLockService.release(LOCK_NAME);
+        }
+    }
+
+    private void run(YearMonth period) {
+        Long minId = userRepository.findMinId();
+        Long maxId = userRepository.findMaxId();
+        if (minId == null) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        AtomicInteger failedRanges = new AtomicInteger();
+        List<CompletableFuture<Integer>> ranges = new ArrayList<>();
+        for (long from = minId; from <= maxId; from += rangeSize) {
+            long fromUserId = from;
+            long toUserId = Math.min(from + rangeSize - 1, maxId);
+            ranges.add(CompletableFuture
+                    .supplyAsync(() -> monthlySummaryService.summarizeUsers(period, fromUserId, toUserId), summaryExecutor)
+                    .exceptionally(ex -> {
+                        failedRanges.incrementAndGet();
+                        log.error("Monthly summary for {} failed for users {}-{}", period, fromUserId, toUserId, ex);
+                        return 0;
+                    }));
+        }
+
+        int users = ranges.stream().mapToInt(CompletableFuture::join).sum();
+        long elapsed = System.nanoTime() - start;
+        double seconds = Math.max(elapsed / 1e9, 1e-3);
+
+        summarizedUsers.increment(users);
+        runTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        lastUsersPerSecond = users / seconds;
+        log.info("Monthly summaries for {}: {} users in {} ranges, {} ms ({} users/s), {} ranges failed",
+                period, users, ranges.size(), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                String.format("%.1f", lastUsersPerSecond), failedRanges.get());
+    }
+}
@@ -0,0 +1,71 @@
+package com.expenseiq.job;
+
+import com.expenseiq.entity.User;
+import com.expenseiq.repository.UserRepository;
+import com.expenseiq.service.JobLockService;
+import com.expenseiq.service.MonthlyTotalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Compares the monthly_category_totals rollup with the raw transactions table
+ * and rebuilds the rollup for any user whose totals have drifted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyTotalsVerificationJob {
+
+    private static final int PAGE_SIZE = 100;
+    private static final String LOCK_NAME = "monthly-totals-verification";
+    private static final Duration LEASE = Duration.ofHours(1);
+
+    private final UserRepository userRepository;
+    private final MonthlyTotalService monthlyTotalService;
+    private final JobLockService jobLockService;
+
+    @Scheduled(cron = "${rollup.verify-cron}")
+    public void verifyAll() {
+        // One node verifies for the whole cluster
+        if (!jobLockService.tryAcquire(LOCK_NAME, LEASE)) {
+            return;
+        }
+        try {
+            verifyUsers();
+        } finally {
+            jobLockService.release(LOCK_NAME);
+        }
+    }
+
+    private void verifyUsers() {
+        int checked = 0;
+        int repaired = 0;
+
+        Page<User> page = userRepository.findAll(PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+        while (true) {
+            for (User user : page) {
+                checked++;
+                try {
+                    if (!monthlyTotalService.verifyAndRepair(user.getId())) {
+                        repaired++;
+                    }
+                } catch (Exception ex) {
+                    log.error("Failed to verify monthly totals for user {}", user.getId(), ex);
+                }
+            }
+            if (!page.hasNext()) {
+                break;
+            }
+            page = userRepository.findAll(page.nextPageable());
+        }
+
+        log.info("Monthly totals verified for {} users, {} rebuilt", checked, repaired);
+    }
+}
@@ -0,0 +1,69 @@
+package com.expenseiq.job;
+
+import com.expenseiq.service.JobLockService;
+import com.expenseiq.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Drains the outbox in batches. A single node dispatches at a time (job lock lease, kept
+ * between polls) so per-user ordering holds across the cluster; if that node dies another
+ * takes over once the lease expires and redelivers whatever was not yet deleted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatchJob {
+
+    private static final String LOCK_NAME = "outbox-dispatcher";
+
+    private final OutboxService outboxService;
+    private final JobLockService jobLockService;
+
+    @Value("${outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${outbox.max-batches-per-poll}")
+    private int maxBatchesPerPoll;
+
+    @Value("${outbox.lease}")
+    private long leaseMs;
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval}")
+    public void dispatch() {
+        Duration lease = Duration.ofMillis(leaseMs);
+        if (!jobLockService.tryAcquire(LOCK_NAME, lease)) {
+            return;
+        }
+
+        // Page through the outbox by (user, sequence) while batches come back full; events held
+        // back by a failing user are paged past and picked up again by a later poll
+        long afterUserId = 0;
+        long afterSequence = 0;
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            try {
+                OutboxService.Batch batch = outboxService.dispatchBatch(afterUserId, afterSequence);
+                if (batch.fetched() < batchSize) {
+                    break;
+                }
+                afterUserId = batch.lastUserId();
+                afterSequence = batch.lastSequence();
+            } catch (Exception ex) {
+                log.error("Outbox dispatch failed", ex);
+                break;
+            }
+
+            // Renew the lease between batches; if another node has taken it over, stop so
+            // two dispatchers never interleave one user's events
+            if (!jobLockService.tryAcquire(LOCK_NAME, lease)) {
+                log.warn("Lost job lock {}, stopping outbox dispatch", LOCK_NAME);
+                break;
+            }
+        }
+    }
+}
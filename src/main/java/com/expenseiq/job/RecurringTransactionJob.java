@@ -0,0 +1,106 @@
+package com.expenseiq.job;
+
+import com.expenseiq.repository.RecurringTransactionRepository;
+import com.expenseiq.service.JobLockService;
+import com.expenseiq.service.RecurringTransactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Turns due recurring schedules into transactions, one chunk (and one database transaction)
+ * at a time. Schedules are split into partitions by id, each guarded by a job lock lease, so
+ * several nodes can work through different partitions in parallel without posting twice.
+ * If a chunk fails, its schedules are retried one by one so a single bad schedule cannot hold
+ * back the rest; whatever still fails is picked up again on the next run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecurringTransactionJob {
+
+    private static final String LOCK_PREFIX = "recurring-transactions-";
+
+    private record PartitionResult(int generated, int failed) {}
+
+    private final RecurringTransactionRepository recurringTransactionRepository;
+    private final RecurringTransactionService recurringTransactionService;
+    private final JobLockService jobLockService;
+
+    @Value("${recurring.chunk-size}")
+    private int chunkSize;
+
+    @Value("${recurring.partitions}")
+    private int partitions;
+
+    @Value("${recurring.lease}")
+    private long leaseMs;
+
+    @Scheduled(cron = "${recurring.cron}")
+    public void materializeDue() {
+        LocalDate today = LocalDate.now();
+        Duration lease = Duration.ofMillis(leaseMs);
+        int generated = 0;
+        int failed = 0;
+
+        for (int partition = 0; partition < partitions; partition++) {
+            String lockName = LOCK_PREFIX + partition;
+            if (!jobLockService.tryAcquire(lockName, lease)) {
+                continue;
+            }
+            try {
+                PartitionResult result = materializePartition(today, partition, lockName, lease);
+                generated += result.generated();
+                failed += result.failed();
+            } finally {
+                jobLockService.release(lockName);
+            }
+        }
+
+        if (generated > 0 || failed > 0) {
+            log.info("Generated {} recurring transactions, {} schedules failed", generated, failed);
+        }
+    }
+
+    private PartitionResult materializePartition(LocalDate today, int partition, String lockName, Duration lease) {
+        long afterId = 0;
+        int generated = 0;
+        int failed = 0;
+
+        while (true) {
+            List<Long> ids = recurringTransactionRepository.findDueIdsAfter(
+                    today, afterId, partitions, partition, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+
+            try {
+                generated += recurringTransactionService.materializeDue(today, ids);
+            } catch (Exception chunkFailure) {
+                for (Long id : ids) {
+                    try {
+                        generated += recurringTransactionService.materializeDue(today, List.of(id));
+                    } catch (Exception ex) {
+                        failed++;
+                        log.error("Failed to materialize recurring transaction {}", id, ex);
+                    }
+                }
+            }
+
+            // Keep the lease while the partition is still being worked on
+            if (!jobLockService.tryAcquire(lockName, lease)) {
+                log.warn("Lost job lock {}, leaving the rest of the partition to its new owner", lockName);
+                break;
+            }
+        }
+        return new PartitionResult(generated, failed);
+    }
+}
@@ -0,0 +1,98 @@
+package com.expenseiq.notification;
+
+import com.expenseiq.cluster.ClusterEventBus;
+import com.expenseiq.repository.NotificationRepository;
+import com.expenseiq.stream.UserEventStream;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user unread notification counts held in memory, so the badge endpoint that clients poll
+ * does not query the notifications table. Counts are loaded on first use, adjusted after each
+ * commit that inserts or reads notifications, and reconciled lazily: a read after the
+ * reconcile interval serves the cached value while the count is recomputed in the background.
+ * Adjustments are broadcast so every node applies them to its own cached count; the reconcile
+ * also bounds drift from a missed broadcast. Every adjustment is pushed to the user's open
+ * event streams on each node.
+ */
+@Component
+public class UnreadNotificationCounter {
+
+    static final String TOPIC_ADJUSTED = "unread-count-adjusted";
+
+    private record Adjustment(Long userId, long delta) {}
+
+    private final LoadingCache<Long, AtomicLong> counts;
+    private final UserEventStream userEventStream;
+    private final ClusterEventBus clusterEventBus;
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository,
+                                     UserEventStream userEventStream,
+                                     ClusterEventBus clusterEventBus,
+                                     @Value("${notifications.unread-counter.max-size}") long maxSize,
+                                     @Value("${notifications.unread-counter.reconcile-interval}") long reconcileMs,
+                                     @Value("${notifications.unread-counter.idle-ttl}") long idleTtlMs,
+                                     MeterRegistry meterRegistry) {
+        this.userEventStream = userEventStream;
+        this.clusterEventBus = clusterEventBus;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(Duration.ofMillis(reconcileMs))
+                .expireAfterAccess(Duration.ofMillis(idleTtlMs))
+                .recordStats()
+                .build(userId -> new AtomicLong(notificationRepository.countByUserIdAndIsReadFalse(userId)));
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "unreadNotificationCounts");
+        clusterEventBus.subscribe(TOPIC_ADJUSTED, Adjustment.class,
+                adjustment -> adjustCached(adjustment.userId(), adjustment.delta()));
+    }
+
+    public long get(Long userId) {
+        return counts.get(userId).get();
+    }
+
+    // Applied after commit so the cached count never runs ahead of the table
+    public void adjustAfterCommit(Long userId, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adjustEverywhere(userId, delta);
+                }
+            });
+        } else {
+            adjustEverywhere(userId, delta);
+        }
+    }
+
+    private void adjustEverywhere(Long userId, long delta) {
+        adjust(userId, delta);
+        clusterEventBus.publish(TOPIC_ADJUSTED, new Adjustment(userId, delta));
+    }
+
+    private void adjust(Long userId, long delta) {
+        if (!adjustCached(userId, delta) && userEventStream.isConnected(userId)) {
+            userEventStream.publishLocal(userId, UserEventStream.EVENT_UNREAD_COUNT, get(userId));
+        }
+    }
+
+    // Never loads, so it is safe on the cluster listener thread; users without a cached count
+    // are loaded fresh on their next read
+    private boolean adjustCached(Long userId, long delta) {
+        AtomicLong count = counts.getIfPresent(userId);
+        if (count == null) {
+            return false;
+        }
+        long updated = count.updateAndGet(value -> Math.max(0, value + delta));
+        userEventStream.publishLocal(userId, UserEventStream.EVENT_UNREAD_COUNT, updated);
+        return true;
+    }
+}
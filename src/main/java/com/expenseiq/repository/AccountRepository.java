@@ -2,8 +2,12 @@ package com.expenseiq.repository;
 
 import com.expenseiq.entity.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +19,8 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Account> findByIdAndUserId(Long id, Long userId);
     
     boolean existsByIdAndUserId(Long id, Long userId);
+    
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = COALESCE(a.balance, 0) + :delta WHERE a.id = :id")
+    int adjustBalance(@Param("id") Long id, @Param("delta") BigDecimal delta);
 }
@@ -1,20 +1,59 @@
 package com.expenseiq.repository;
 
 import com.expenseiq.entity.Budget;
+import com.expenseiq.repository.projection.UserBudgetRow;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
     
+    @EntityGraph(attributePaths = "category")
     List<Budget> findByUserIdAndMonthAndYear(Long userId, Integer month, Integer year);
     
     Optional<Budget> findByUserIdAndCategoryIdAndMonthAndYear(Long userId, Long categoryId, Integer month, Integer year);
     
+    @EntityGraph(attributePaths = "category")
     Optional<Budget> findByIdAndUserId(Long id, Long userId);
     
     boolean existsByIdAndUserId(Long id, Long userId);
+    
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.id AS userId, u.currency AS currency, c.id AS categoryId, c.name AS categoryName, " +
+           "b.amount AS amount FROM Budget b JOIN b.user u JOIN b.category c " +
+           "WHERE u.id BETWEEN :fromUserId AND :toUserId AND u.enabled = true " +
+           "AND b.month = :month AND b.year = :year ORDER BY u.id")
+    Stream<UserBudgetRow> streamUserBudgets(
+            @Param("fromUserId") Long fromUserId,
+            @Param("toUserId") Long toUserId,
+            @Param("month") int month,
+            @Param("year") int year
+    );
+    
+    // Only one concurrent evaluation can move the threshold up, and only that one alerts
+    @Modifying
+    @Query("UPDATE Budget b SET b.alertedThreshold = :threshold " +
+           "WHERE b.id = :id AND (b.alertedThreshold IS NULL OR b.alertedThreshold < :threshold)")
+    int raiseAlertedThreshold(@Param("id") Long id, @Param("threshold") int threshold);
+    
+    @Modifying
+    @Query("UPDATE Budget b SET b.alertedThreshold = :threshold " +
+           "WHERE b.id = :id AND b.alertedThreshold > :threshold")
+    int lowerAlertedThreshold(@Param("id") Long id, @Param("threshold") int threshold);
 }
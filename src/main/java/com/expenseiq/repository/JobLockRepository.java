@@ -0,0 +1,38 @@
+package com.expenseiq.repository;
+
+import com.expenseiq.entity.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, Long> {
+
+    boolean existsByName(String name);
+
+    // Takes over an expired lease or extends our own; 0 rows means held elsewhere or not created yet
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobLock j SET j.owner = :owner, j.lockedUntil = :until " +
+           "WHERE j.name = :name AND (j.lockedUntil < :now OR j.owner = :owner)")
+    int acquire(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("until") LocalDateTime until
+    );
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobLock j SET j.lockedUntil = :now WHERE j.name = :name AND j.owner = :owner")
+    int release(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now
+    );
+}
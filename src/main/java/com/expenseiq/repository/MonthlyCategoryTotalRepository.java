@@ -0,0 +1,91 @@
+package com.expenseiq.repository;
+
+import com.expenseiq.entity.MonthlyCategoryTotal;
+import com.expenseiq.enums.TransactionType;
+import com.expenseiq.repository.projection.CategoryTotal;
+import com.expenseiq.repository.projection.UserCategoryTotal;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@Repository
+public interface MonthlyCategoryTotalRepository extends JpaRepository<MonthlyCategoryTotal, Long> {
+    
+    List<MonthlyCategoryTotal> findByUserId(Long userId);
+    
+    @Modifying
+    @Query("UPDATE MonthlyCategoryTotal m SET m.total = m.total + :amount, " +
+           "m.transactionCount = m.transactionCount + :count " +
+           "WHERE m.user.id = :userId AND m.category.id = :categoryId AND m.type = :type " +
+           "AND m.year = :year AND m.month = :month")
+    int applyDelta(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("year") int year,
+            @Param("month") int month,
+            @Param("amount") BigDecimal amount,
+            @Param("count") long count
+    );
+    
+    @Query("SELECT m.category.id AS categoryId, m.total AS total FROM MonthlyCategoryTotal m " +
+           "WHERE m.user.id = :userId AND m.type = :type AND m.year = :year AND m.month = :month")
+    List<CategoryTotal> findCategoryTotals(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("year") int year,
+            @Param("month") int month
+    );
+    
+    @Query("SELECT COALESCE(SUM(m.total), 0) FROM MonthlyCategoryTotal m " +
+           "WHERE m.user.id = :userId AND m.category.id = :categoryId AND m.type = :type " +
+           "AND m.year = :year AND m.month = :month")
+    BigDecimal findCategoryTotal(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("year") int year,
+            @Param("month") int month
+    );
+    
+    @Query("SELECT COALESCE(SUM(m.total), 0) FROM MonthlyCategoryTotal m " +
+           "WHERE m.user.id = :userId AND m.type = :type " +
+           "AND (m.year * 12 + m.month) >= :fromPeriod AND (m.year * 12 + m.month) < :toPeriod")
+    BigDecimal sumByTypeAndPeriodRange(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("fromPeriod") int fromPeriod,
+            @Param("toPeriod") int toPeriod
+    );
+    
+    // Month totals for a range of active users, in user order, for batch summaries
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.id AS userId, u.currency AS currency, c.id AS categoryId, c.name AS categoryName, " +
+           "m.type AS type, m.total AS total FROM MonthlyCategoryTotal m JOIN m.user u JOIN m.category c " +
+           "WHERE u.id BETWEEN :fromUserId AND :toUserId AND u.enabled = true " +
+           "AND m.year = :year AND m.month = :month AND m.transactionCount > 0 ORDER BY u.id")
+    Stream<UserCategoryTotal> streamUserTotals(
+            @Param("fromUserId") Long fromUserId,
+            @Param("toUserId") Long toUserId,
+            @Param("year") int year,
+            @Param("month") int month
+    );
+    
+    @Modifying
+    @Query("DELETE FROM MonthlyCategoryTotal m WHERE m.user.id = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -1,7 +1,13 @@
 package com.expenseiq.repository;
 
 import com.expenseiq.entity.Notification;
+import com.expenseiq.enums.NotificationType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,4 +25,33 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     long countByUserIdAndIsReadFalse(Long userId);
     
     boolean existsByIdAndUserId(Long id, Long userId);
+    
+    // Keyset page, newest first
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.id < :beforeId " +
+           "AND (:unreadOnly = false OR n.isRead = false) ORDER BY n.id DESC")
+    Slice<Notification> findSliceByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("beforeId") Long beforeId,
+            @Param("unreadOnly") boolean unreadOnly,
+            Pageable pageable
+    );
+    
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true " +
+           "WHERE n.id = :id AND n.user.id = :userId AND n.isRead = false")
+    int markRead(@Param("id") Long id, @Param("userId") Long userId);
+    
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllRead(@Param("userId") Long userId);
+    
+    // Users in a range that already received a given notification, so batch jobs can be re-run
+    @Query("SELECT n.user.id FROM Notification n WHERE n.type = :type AND n.title = :title " +
+           "AND n.user.id BETWEEN :fromUserId AND :toUserId")
+    List<Long> findUserIdsNotified(
+            @Param("type") NotificationType type,
+            @Param("title") String title,
+            @Param("fromUserId") Long fromUserId,
+            @Param("toUserId") Long toUserId
+    );
 }
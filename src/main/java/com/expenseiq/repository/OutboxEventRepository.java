@@ -0,0 +1,52 @@
+package com.expenseiq.repository;
+
+import com.expenseiq.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Due events after the (user, sequence) cursor in delivery order, skipping any event queued
+    // behind an earlier one of the same user that is still backing off, so one failing user
+    // cannot fill every batch
+    @Query("SELECT e FROM OutboxEvent e WHERE e.deadLetter = false " +
+           "AND (e.userId > :afterUserId OR (e.userId = :afterUserId AND e.userSequence > :afterSequence)) " +
+           "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) " +
+           "AND NOT EXISTS (SELECT b.id FROM OutboxEvent b WHERE b.userId = e.userId " +
+           "AND b.userSequence < e.userSequence AND b.deadLetter = false AND b.nextAttemptAt > :now) " +
+           "ORDER BY e.userId, e.userSequence")
+    List<OutboxEvent> findDeliverable(
+            @Param("afterUserId") long afterUserId,
+            @Param("afterSequence") long afterSequence,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteDelivered(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, " +
+           "e.lastError = :error, e.deadLetter = :deadLetter WHERE e.id = :id")
+    int markFailed(
+            @Param("id") Long id,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("error") String error,
+            @Param("deadLetter") boolean deadLetter
+    );
+
+    long countByDeadLetterFalse();
+}
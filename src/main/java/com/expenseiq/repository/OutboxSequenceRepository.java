@@ -0,0 +1,20 @@
+package com.expenseiq.repository;
+
+import com.expenseiq.entity.OutboxSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxSequenceRepository extends JpaRepository<OutboxSequence, Long> {
+
+    // Runs in the caller's transaction and keeps the user's row locked until it ends
+    @Modifying
+    @Query("UPDATE OutboxSequence s SET s.lastSequence = s.lastSequence + :count WHERE s.userId = :userId")
+    int advance(@Param("userId") Long userId, @Param("count") long count);
+
+    @Query("SELECT s.lastSequence FROM OutboxSequence s WHERE s.userId = :userId")
+    long findLastSequence(@Param("userId") Long userId);
+}
@@ -1,10 +1,17 @@
 package com.expenseiq.repository;
 
 import com.expenseiq.entity.RecurringTransaction;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +23,29 @@ public interface RecurringTransactionRepository extends JpaRepository<RecurringT
     List<RecurringTransaction> findByUserIdAndIsActiveTrue(Long userId);
     
     List<RecurringTransaction> findByIsActiveTrueAndNextDateLessThanEqual(LocalDate date);
+
+    // Keyset page of due schedule ids within one partition (id modulo partitions)
+    @Query("SELECT r.id FROM RecurringTransaction r " +
+           "WHERE r.isActive = true AND r.nextDate <= :date AND r.id > :afterId " +
+           "AND MOD(r.id, :partitions) = :partition ORDER BY r.id")
+    List<Long> findDueIdsAfter(
+            @Param("date") LocalDate date,
+            @Param("afterId") Long afterId,
+            @Param("partitions") int partitions,
+            @Param("partition") int partition,
+            Pageable pageable
+    );
+
+    // Re-checks due-ness inside the writing transaction and row-locks the schedules, so a
+    // concurrent run waits and then finds them already advanced
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = {"user", "account", "category"})
+    @Query("SELECT r FROM RecurringTransaction r " +
+           "WHERE r.id IN :ids AND r.isActive = true AND r.nextDate <= :date")
+    List<RecurringTransaction> findDueByIdIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("date") LocalDate date
+    );
     
     Optional<RecurringTransaction> findByIdAndUserId(Long id, Long userId);
     
@@ -2,67 +2,103 @@ package com.expenseiq.repository;
 
 import com.expenseiq.entity.Transaction;
 import com.expenseiq.enums.TransactionType;
+import com.expenseiq.repository.projection.MonthlyTotalRow;
+import com.expenseiq.repository.projection.TransactionSearchRow;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
     
+    @EntityGraph(attributePaths = {"category", "account"})
     Page<Transaction> findByUserId(Long userId, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"category", "account"})
     Optional<Transaction> findByIdAndUserId(Long id, Long userId);
     
-    List<Transaction> findByUserIdAndDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+    @EntityGraph(attributePaths = {"category", "account"})
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId " +
+           "ORDER BY t.date DESC, t.createdAt DESC, t.id DESC")
+    Slice<Transaction> findFirstSliceByUserId(@Param("userId") Long userId, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"category", "account"})
     @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId " +
-           "AND (:type IS NULL OR t.type = :type) " +
-           "AND (:categoryId IS NULL OR t.category.id = :categoryId) " +
-           "AND (:accountId IS NULL OR t.account.id = :accountId) " +
-           "AND (:startDate IS NULL OR t.date >= :startDate) " +
-           "AND (:endDate IS NULL OR t.date <= :endDate) " +
-           "AND (:description IS NULL OR LOWER(t.description) LIKE LOWER(CONCAT('%', :description, '%')))")
-    Page<Transaction> findByFilters(
+           "AND (t.date < :date OR (t.date = :date AND (t.createdAt < :createdAt " +
+           "OR (t.createdAt = :createdAt AND t.id < :id)))) " +
+           "ORDER BY t.date DESC, t.createdAt DESC, t.id DESC")
+    Slice<Transaction> findSliceByUserIdAfter(
             @Param("userId") Long userId,
-            @Param("type") TransactionType type,
-            @Param("categoryId") Long categoryId,
-            @Param("accountId") Long accountId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
-            @Param("description") String description,
+            @Param("date") LocalDate date,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
             Pageable pageable
     );
     
-    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
-           "WHERE t.user.id = :userId AND t.type = :type " +
-           "AND t.date BETWEEN :startDate AND :endDate")
-    BigDecimal sumByUserIdAndTypeAndDateBetween(
+    @EntityGraph(attributePaths = {"category", "account"})
+    List<Transaction> findByUserIdAndIdIn(Long userId, Collection<Long> ids);
+    
+    @Query("SELECT t.id AS id, t.description AS description, t.date AS date FROM Transaction t " +
+           "WHERE t.user.id = :userId AND t.description IS NOT NULL")
+    List<TransactionSearchRow> findSearchRowsByUserId(@Param("userId") Long userId);
+    
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.category JOIN FETCH t.account " +
+           "WHERE t.user.id = :userId AND t.date >= :startDate AND t.date <= :endDate " +
+           "ORDER BY t.date, t.id")
+    Stream<Transaction> streamByUserIdAndDateBetween(
             @Param("userId") Long userId,
-            @Param("type") TransactionType type,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
     
+    List<Transaction> findByUserIdAndDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+    
+    @Override
+    @EntityGraph(attributePaths = {"category", "account"})
+    Page<Transaction> findAll(Specification<Transaction> spec, Pageable pageable);
+    
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
            "WHERE t.user.id = :userId AND t.type = :type " +
-           "AND t.category.id = :categoryId " +
-           "AND EXTRACT(MONTH FROM t.date) = :month AND EXTRACT(YEAR FROM t.date) = :year")
-    BigDecimal sumByCategoryAndMonthAndYear(
+           "AND t.date BETWEEN :startDate AND :endDate")
+    BigDecimal sumByUserIdAndTypeAndDateBetween(
             @Param("userId") Long userId,
             @Param("type") TransactionType type,
-            @Param("categoryId") Long categoryId,
-            @Param("month") int month,
-            @Param("year") int year
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
     );
     
+    @Query("SELECT t.category.id AS categoryId, t.type AS type, " +
+           "EXTRACT(YEAR FROM t.date) AS year, EXTRACT(MONTH FROM t.date) AS month, " +
+           "SUM(t.amount) AS total, COUNT(t) AS transactionCount FROM Transaction t " +
+           "WHERE t.user.id = :userId " +
+           "GROUP BY t.category.id, t.type, EXTRACT(YEAR FROM t.date), EXTRACT(MONTH FROM t.date)")
+    List<MonthlyTotalRow> aggregateMonthlyTotalsByUserId(@Param("userId") Long userId);
+    
+    @EntityGraph(attributePaths = {"category", "account"})
     @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId ORDER BY t.date DESC, t.createdAt DESC")
     List<Transaction> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
     
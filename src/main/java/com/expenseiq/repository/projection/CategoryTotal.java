@@ -0,0 +1,11 @@
+package com.expenseiq.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregated transaction amount for a single category.
+ */
+public interface CategoryTotal {
+    Long getCategoryId();
+    BigDecimal getTotal();
+}
@@ -0,0 +1,17 @@
+package com.expenseiq.repository.projection;
+
+import com.expenseiq.enums.TransactionType;
+
+import java.math.BigDecimal;
+
+/**
+ * Per (category, type, year, month) aggregate computed from raw transactions.
+ */
+public interface MonthlyTotalRow {
+    Long getCategoryId();
+    TransactionType getType();
+    Integer getYear();
+    Integer getMonth();
+    BigDecimal getTotal();
+    Long getTransactionCount();
+}
@@ -0,0 +1,12 @@
+package com.expenseiq.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Minimal transaction fields needed to build the description search index.
+ */
+public interface TransactionSearchRow {
+    Long getId();
+    String getDescription();
+    LocalDate getDate();
+}
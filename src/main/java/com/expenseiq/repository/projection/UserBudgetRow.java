@@ -0,0 +1,14 @@
+package com.expenseiq.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * A user's budget limit for a category in a month.
+ */
+public interface UserBudgetRow {
+    Long getUserId();
+    String getCurrency();
+    Long getCategoryId();
+    String getCategoryName();
+    BigDecimal getAmount();
+}
@@ -0,0 +1,17 @@
+package com.expenseiq.repository.projection;
+
+import com.expenseiq.enums.TransactionType;
+
+import java.math.BigDecimal;
+
+/**
+ * One user's rolled-up total for a category and transaction type in a month.
+ */
+public interface UserCategoryTotal {
+    Long getUserId();
+    String getCurrency();
+    Long getCategoryId();
+    String getCategoryName();
+    TransactionType getType();
+    BigDecimal getTotal();
+}
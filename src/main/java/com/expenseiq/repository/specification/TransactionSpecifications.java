@@ -0,0 +1,85 @@
+package com.expenseiq.repository.specification;
+
+import com.expenseiq.entity.Transaction;
+import com.expenseiq.enums.TransactionType;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds transaction filter queries from only the criteria that were actually supplied,
+ * so each filter combination produces its own narrow WHERE clause.
+ */
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {
+    }
+
+    public static Specification<Transaction> withFilters(
+            Long userId,
+            TransactionType type,
+            Long categoryId,
+            Long accountId,
+            LocalDate startDate,
+            LocalDate endDate,
+            String description) {
+
+        List<Specification<Transaction>> specs = new ArrayList<>();
+        specs.add(belongsToUser(userId));
+        if (type != null) {
+            specs.add(hasType(type));
+        }
+        if (categoryId != null) {
+            specs.add(hasCategory(categoryId));
+        }
+        if (accountId != null) {
+            specs.add(hasAccount(accountId));
+        }
+        if (startDate != null) {
+            specs.add(dateOnOrAfter(startDate));
+        }
+        if (endDate != null) {
+            specs.add(dateOnOrBefore(endDate));
+        }
+        if (StringUtils.hasText(description)) {
+            specs.add(descriptionContains(description.trim()));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Transaction> belongsToUser(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Transaction> hasType(TransactionType type) {
+        return (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<Transaction> hasCategory(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Transaction> hasAccount(Long accountId) {
+        return (root, query, cb) -> cb.equal(root.get("account").get("id"), accountId);
+    }
+
+    public static Specification<Transaction> dateOnOrAfter(LocalDate startDate) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), startDate);
+    }
+
+    public static Specification<Transaction> dateOnOrBefore(LocalDate endDate) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), endDate);
+    }
+
+    public static Specification<Transaction> descriptionContains(String description) {
+        String pattern = "%" + escapeLike(description.toLowerCase()) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("description")), pattern, '\\');
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
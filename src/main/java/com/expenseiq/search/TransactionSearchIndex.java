@@ -0,0 +1,255 @@
+package com.expenseiq.search;
+
+import com.expenseiq.cluster.ClusterEventBus;
+import com.expenseiq.entity.Transaction;
+import com.expenseiq.repository.TransactionRepository;
+import com.expenseiq.repository.projection.TransactionSearchRow;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory inverted index (token -> transaction ids) over transaction descriptions.
+ * A user's index is built from the database on first search and kept current by
+ * applying writes after their database transaction commits. The node making a write updates
+ * its own index in place and tells the other nodes to drop that user's index, which they
+ * rebuild on the next search. The TTL bounds staleness if such a message is missed.
+ */
+@Component
+public class TransactionSearchIndex {
+
+    static final String TOPIC_INVALIDATED = "search-index-invalidated";
+
+    private final TransactionRepository transactionRepository;
+    private final ClusterEventBus clusterEventBus;
+    private final Cache<Long, UserIndex> indexes;
+
+    public TransactionSearchIndex(TransactionRepository transactionRepository,
+                                  ClusterEventBus clusterEventBus,
+                                  @Value("${search.max-indexed-users}") long maxIndexedUsers,
+                                  @Value("${search.index-ttl}") long indexTtlMs) {
+        this.transactionRepository = transactionRepository;
+        this.clusterEventBus = clusterEventBus;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxIndexedUsers)
+                .expireAfterWrite(Duration.ofMillis(indexTtlMs))
+                .build();
+        clusterEventBus.subscribe(TOPIC_INVALIDATED, Long.class, indexes::invalidate);
+    }
+
+    public List<Long> search(Long userId, String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        return getOrLoad(userId).search(terms, limit);
+    }
+
+    public void onTransactionSaved(Transaction transaction) {
+        Long userId = transaction.getUser().getId();
+        Long id = transaction.getId();
+        String description = transaction.getDescription();
+        LocalDate date = transaction.getDate();
+        afterCommit(() -> {
+            UserIndex index = getIfPresent(userId);
+            if (index != null) {
+                index.put(id, description, date);
+            }
+            clusterEventBus.publish(TOPIC_INVALIDATED, userId);
+        });
+    }
+
+    public void onTransactionsSaved(Collection<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        // A batch may span users (recurring job chunks), so route each row to its owner's index
+        Map<Long, List<IndexedRow>> rowsByUser = transactions.stream()
+                .collect(Collectors.groupingBy(
+                        transaction -> transaction.getUser().getId(),
+                        Collectors.mapping(
+                                transaction -> new IndexedRow(transaction.getId(), transaction.getDescription(), transaction.getDate()),
+                                Collectors.toList())));
+        afterCommit(() -> rowsByUser.forEach((userId, rows) -> {
+            UserIndex index = getIfPresent(userId);
+            if (index != null) {
+                rows.forEach(row -> index.put(row.id(), row.description(), row.date()));
+            }
+            clusterEventBus.publish(TOPIC_INVALIDATED, userId);
+        }));
+    }
+
+    public void onTransactionDeleted(Long userId, Long id) {
+        afterCommit(() -> {
+            UserIndex index = getIfPresent(userId);
+            if (index != null) {
+                index.remove(id);
+            }
+            clusterEventBus.publish(TOPIC_INVALIDATED, userId);
+        });
+    }
+
+    private UserIndex getOrLoad(Long userId) {
+        UserIndex index = indexes.get(userId, id -> new UserIndex());
+        index.ensureLoaded(userId);
+        return index;
+    }
+
+    private UserIndex getIfPresent(Long userId) {
+        return indexes.getIfPresent(userId);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private record IndexedRow(Long id, String description, LocalDate date) {
+    }
+
+    private final class UserIndex {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+        private final Map<Long, Set<String>> tokensById = new HashMap<>();
+        private final Map<Long, LocalDate> datesById = new HashMap<>();
+        private volatile boolean loaded;
+
+        void ensureLoaded(Long userId) {
+            if (loaded) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                if (!loaded) {
+                    for (TransactionSearchRow row : transactionRepository.findSearchRowsByUserId(userId)) {
+                        putInternal(row.getId(), row.getDescription(), row.getDate());
+                    }
+                    loaded = true;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void put(Long id, String description, LocalDate date) {
+            lock.writeLock().lock();
+            try {
+                putInternal(id, description, date);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long id) {
+            lock.writeLock().lock();
+            try {
+                removeInternal(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Long> search(List<String> terms, int limit) {
+            lock.readLock().lock();
+            try {
+                // Every term must match a token exactly or as a prefix; exact matches rank higher
+                Map<Long, Integer> scores = null;
+                for (String term : terms) {
+                    Map<Long, Integer> termScores = new HashMap<>();
+                    for (Map.Entry<String, Set<Long>> entry : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+                        int weight = entry.getKey().equals(term) ? 2 : 1;
+                        for (Long id : entry.getValue()) {
+                            termScores.merge(id, weight, Math::max);
+                        }
+                    }
+                    if (scores == null) {
+                        scores = termScores;
+                    } else {
+                        scores.keySet().retainAll(termScores.keySet());
+                        for (Map.Entry<Long, Integer> entry : scores.entrySet()) {
+                            entry.setValue(entry.getValue() + termScores.get(entry.getKey()));
+                        }
+                    }
+                    if (scores.isEmpty()) {
+                        return List.of();
+                    }
+                }
+
+                Comparator<Map.Entry<Long, Integer>> ranking = Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(entry -> datesById.get(entry.getKey()), Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(Map.Entry.<Long, Integer>comparingByKey().reversed());
+
+                return scores.entrySet().stream()
+                        .sorted(ranking)
+                        .limit(limit)
+                        .map(Map.Entry::getKey)
+                        .toList();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // Replaces whatever is indexed for the id: a write applied before the initial load
+        // took the lock must not leave its tokens next to the loaded ones
+        private void putInternal(Long id, String description, LocalDate date) {
+            removeInternal(id);
+            Set<String> tokens = new HashSet<>(tokenize(description));
+            if (tokens.isEmpty()) {
+                return;
+            }
+            tokensById.put(id, tokens);
+            datesById.put(id, date);
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, key -> new HashSet<>()).add(id);
+            }
+        }
+
+        private void removeInternal(Long id) {
+            Set<String> tokens = tokensById.remove(id);
+            datesById.remove(id);
+            if (tokens == null) {
+                return;
+            }
+            for (String token : tokens) {
+                Set<Long> ids = postings.get(token);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        postings.remove(token);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.expenseiq.security;
+
+import com.expenseiq.exception.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-user API rate limiting, applied after JwtAuthenticationFilter so the caller is known.
+ * Each (user, endpoint class) pair gets its own lock-free {@link TokenBucket}; the bucket map
+ * is a ConcurrentHashMap, so unrelated users never contend. Buckets that have refilled are
+ * swept periodically. Rejections get 429 with Retry-After and are counted as
+ * api.ratelimit.rejected{class=...}. Anonymous requests are not limited here.
+ */
+@Component
+public class ApiRateLimitFilter extends OncePerRequestFilter {
+
+    enum EndpointClass {
+        // Imports and exports that touch every row of a user
+        BULK,
+        // Listing, searching and aggregating transactions, budget progress and the dashboard
+        EXPENSIVE,
+        STANDARD
+    }
+
+    private record BucketKey(Long userId, EndpointClass endpointClass) {}
+
+    private final Map<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<EndpointClass, Integer> limits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejections = new EnumMap<>(EndpointClass.class);
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long periodNanos;
+
+    public ApiRateLimitFilter(@Value("${security.rate-limit.enabled}") boolean enabled,
+                              @Value("${security.rate-limit.period}") long periodMs,
+                              @Value("${security.rate-limit.bulk}") int bulkLimit,
+                              @Value("${security.rate-limit.expensive}") int expensiveLimit,
+                              @Value("${security.rate-limit.standard}") int standardLimit,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.periodNanos = TimeUnit.MILLISECONDS.toNanos(periodMs);
+        this.objectMapper = objectMapper;
+        limits.put(EndpointClass.BULK, bulkLimit);
+        limits.put(EndpointClass.EXPENSIVE, expensiveLimit);
+        limits.put(EndpointClass.STANDARD, standardLimit);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            rejections.put(endpointClass, Counter.builder("api.ratelimit.rejected")
+                    .tag("class", endpointClass.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/") || request.getRequestURI().startsWith("/api/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof SecurityUser user) {
+            EndpointClass endpointClass = classify(request);
+            TokenBucket bucket = buckets.computeIfAbsent(new BucketKey(user.getId(), endpointClass),
+                    key -> new TokenBucket(limits.get(key.endpointClass()), periodNanos));
+
+            long wait = bucket.tryConsume(System.nanoTime());
+            if (wait > 0) {
+                rejections.get(endpointClass).increment();
+                reject(response, wait);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${security.rate-limit.period}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    static EndpointClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+
+        if (path.equals("/api/transactions/bulk") || path.equals("/api/transactions/export")) {
+            return EndpointClass.BULK;
+        }
+        if ("GET".equals(method)
+                && (path.equals("/api/transactions")
+                    || path.equals("/api/transactions/search")
+                    || path.equals("/api/transactions/summary")
+                    || path.equals("/api/dashboard")
+                    || path.startsWith("/api/budgets/progress"))) {
+            return EndpointClass.EXPENSIVE;
+        }
+        return EndpointClass.STANDARD;
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Rate limit exceeded, please retry later",
+                LocalDateTime.now()
+        ));
+    }
+}
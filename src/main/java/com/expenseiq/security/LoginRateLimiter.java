@@ -0,0 +1,106 @@
+package com.expenseiq.security;
+
+import com.expenseiq.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles login attempts per client IP and per account, and registrations per client IP,
+ * before any password is hashed, so credential-stuffing and sign-up bursts are rejected cheaply
+ * instead of burning CPU on the encoder. The client IP is the one resolved from the proxy's
+ * forwarded headers (server.forward-headers-strategy).
+ * Rejections are counted as auth.login.throttled{scope=ip|account|register}.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> accountBuckets;
+    private final Cache<String, TokenBucket> registerBuckets;
+    private final int ipCapacity;
+    private final int accountCapacity;
+    private final int registerCapacity;
+    private final long periodNanos;
+    private final Counter ipRejections;
+    private final Counter accountRejections;
+    private final Counter registerRejections;
+
+    public LoginRateLimiter(@Value("${security.login-throttle.per-ip}") int ipCapacity,
+                            @Value("${security.login-throttle.per-account}") int accountCapacity,
+                            @Value("${security.login-throttle.register-per-ip}") int registerCapacity,
+                            @Value("${security.login-throttle.period}") long periodMs,
+                            @Value("${security.login-throttle.max-tracked}") long maxTracked,
+                            MeterRegistry meterRegistry) {
+        this.ipCapacity = ipCapacity;
+        this.accountCapacity = accountCapacity;
+        this.registerCapacity = registerCapacity;
+        this.periodNanos = TimeUnit.MILLISECONDS.toNanos(periodMs);
+        // A bucket untouched for a full period is full again, so it can be dropped
+        this.ipBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .expireAfterAccess(Duration.ofMillis(periodMs))
+                .build();
+        this.accountBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .expireAfterAccess(Duration.ofMillis(periodMs))
+                .build();
+        this.registerBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .expireAfterAccess(Duration.ofMillis(periodMs))
+                .build();
+        this.ipRejections = Counter.builder("auth.login.throttled").tag("scope", "ip").register(meterRegistry);
+        this.accountRejections = Counter.builder("auth.login.throttled").tag("scope", "account").register(meterRegistry);
+        this.registerRejections = Counter.builder("auth.login.throttled").tag("scope", "register").register(meterRegistry);
+    }
+
+    public void checkAllowed(String clientIp, String email) {
+        long now = System.nanoTime();
+
+        if (clientIp != null) {
+            long wait = ipBuckets.get(clientIp, key -> new TokenBucket(ipCapacity, periodNanos)).tryConsume(now);
+            if (wait > 0) {
+                ipRejections.increment();
+                throw rejected(wait);
+            }
+        }
+
+        if (email != null) {
+            String account = email.trim().toLowerCase(Locale.ROOT);
+            long wait = accountBuckets.get(account, key -> new TokenBucket(accountCapacity, periodNanos)).tryConsume(now);
+            if (wait > 0) {
+                accountRejections.increment();
+                throw rejected(wait);
+            }
+        }
+    }
+
+    public void checkRegistrationAllowed(String clientIp) {
+        if (clientIp == null) {
+            return;
+        }
+        long wait = registerBuckets.get(clientIp, key -> new TokenBucket(registerCapacity, periodNanos))
+                .tryConsume(System.nanoTime());
+        if (wait > 0) {
+            registerRejections.increment();
+            throw new TooManyRequestsException("Too many registration attempts, please try again later",
+                    retryAfterSeconds(wait));
+        }
+    }
+
+    private static TooManyRequestsException rejected(long waitNanos) {
+        return new TooManyRequestsException("Too many login attempts, please try again later",
+                retryAfterSeconds(waitNanos));
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+    }
+}
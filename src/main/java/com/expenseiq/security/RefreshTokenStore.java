@@ -0,0 +1,207 @@
+package com.expenseiq.security;
+
+import com.expenseiq.entity.RefreshToken;
+import com.expenseiq.entity.User;
+import com.expenseiq.exception.UnauthorizedException;
+import com.expenseiq.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Server-side registry of issued refresh tokens. Every refresh token belongs to a family
+ * started at login; using a token rotates it to a new one in the same family, and presenting
+ * an already-rotated token revokes the whole family (and the user's access tokens).
+ *
+ * The refresh_tokens table is authoritative, keyed by the SHA-256 of the token's jti; an
+ * in-memory index keyed the same way answers lookups for known tokens, with a skip list
+ * ordered by expiry so the scheduled compaction only touches expired entries.
+ * Access-token requests never consult this store.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    public record Rotation(Long userId, String familyId) {}
+
+    private record Entry(String familyId, Long userId, LocalDateTime expiresAt, boolean used) {
+        Entry markUsed() {
+            return new Entry(familyId, userId, expiresAt, true);
+        }
+    }
+
+    private record Expiry(LocalDateTime expiresAt, String tokenHash) {}
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Expiry> expiryIndex = new ConcurrentSkipListSet<>(
+            Comparator.comparing(Expiry::expiresAt).thenComparing(Expiry::tokenHash));
+    // Revoked family -> latest possible expiry of any of its tokens
+    private final Map<String, LocalDateTime> revokedFamilies = new ConcurrentHashMap<>();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpirationMs;
+
+    @Value("${security.refresh-tokens.max-cached}")
+    private int maxCached;
+
+    /**
+     * Issues a refresh token for the user, continuing the given family or starting a new one.
+     */
+    public String issue(User user, String familyId) {
+        String tokenId = UUID.randomUUID().toString();
+        String family = familyId != null ? familyId : UUID.randomUUID().toString();
+        String tokenHash = hash(tokenId);
+        LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(refreshExpirationMs));
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .familyId(family)
+                .user(user)
+                .expiresAt(expiresAt)
+                .used(false)
+                .revoked(false)
+                .build());
+        cache(tokenHash, new Entry(family, user.getId(), expiresAt, false));
+
+        return tokenProvider.generateRefreshToken(user.getEmail(), tokenId);
+    }
+
+    /**
+     * Consumes the refresh token with the given jti. Must run in a transaction that is not
+     * rolled back on {@link UnauthorizedException}, so a detected reuse stays revoked.
+     */
+    public Rotation rotate(String tokenId) {
+        if (tokenId == null) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+        String tokenHash = hash(tokenId);
+        Entry entry = lookup(tokenHash);
+        if (entry == null
+                || entry.expiresAt().isBefore(LocalDateTime.now())
+                || revokedFamilies.containsKey(entry.familyId())) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+
+        if (entry.used() || refreshTokenRepository.markUsed(tokenHash) == 0) {
+            log.warn("Refresh token reuse detected for user {}, revoking token family", entry.userId());
+            revokeFamily(entry.familyId());
+            tokenRevocationList.revokeUser(entry.userId());
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+
+        // Only remember the token as used once the rotation is committed
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.computeIfPresent(tokenHash, (key, current) -> current.markUsed());
+                }
+            });
+        } else {
+            entries.computeIfPresent(tokenHash, (key, current) -> current.markUsed());
+        }
+        return new Rotation(entry.userId(), entry.familyId());
+    }
+
+    /**
+     * Revokes the family of the refresh token with the given jti, if it is known.
+     */
+    public void revoke(String tokenId) {
+        if (tokenId == null) {
+            return;
+        }
+        Entry entry = lookup(hash(tokenId));
+        if (entry != null) {
+            revokeFamily(entry.familyId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-tokens.compaction-interval}")
+    @Transactional
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int evicted = 0;
+        Iterator<Expiry> iterator = expiryIndex.iterator();
+        while (iterator.hasNext()) {
+            Expiry expiry = iterator.next();
+            if (!expiry.expiresAt().isBefore(now)) {
+                break;
+            }
+            iterator.remove();
+            entries.remove(expiry.tokenHash());
+            evicted++;
+        }
+        revokedFamilies.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+
+        int deleted = refreshTokenRepository.deleteExpired(now);
+        if (evicted > 0 || deleted > 0) {
+            log.debug("Refresh token compaction evicted {} cached and deleted {} stored tokens", evicted, deleted);
+        }
+    }
+
+    private void revokeFamily(String familyId) {
+        refreshTokenRepository.revokeFamily(familyId);
+        revokedFamilies.put(familyId, LocalDateTime.now().plus(Duration.ofMillis(refreshExpirationMs)));
+    }
+
+    private Entry lookup(String tokenHash) {
+        Entry entry = entries.get(tokenHash);
+        if (entry != null) {
+            return entry;
+        }
+
+        // Issued before a restart or on another node
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(tokenHash).orElse(null);
+        if (stored == null) {
+            return null;
+        }
+        if (Boolean.TRUE.equals(stored.getRevoked())) {
+            revokedFamilies.putIfAbsent(stored.getFamilyId(), stored.getExpiresAt());
+        }
+        entry = new Entry(stored.getFamilyId(), stored.getUser().getId(), stored.getExpiresAt(),
+                Boolean.TRUE.equals(stored.getUsed()));
+        cache(tokenHash, entry);
+        return entry;
+    }
+
+    private void cache(String tokenHash, Entry entry) {
+        // Past the bound, lookups simply fall through to the table
+        if (entries.size() < maxCached) {
+            entries.put(tokenHash, entry);
+            expiryIndex.add(new Expiry(entry.expiresAt(), tokenHash));
+        }
+    }
+
+    private static String hash(String tokenId) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(tokenId.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
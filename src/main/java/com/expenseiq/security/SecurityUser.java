@@ -1,6 +1,7 @@
 package com.expenseiq.security;
 
 import com.expenseiq.entity.User;
+import com.expenseiq.enums.Role;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
@@ -18,24 +19,33 @@ public class SecurityUser implements UserDetails {
     private String email;
     private String password;
     private String name;
+    private Role role;
     private Collection<? extends GrantedAuthority> authorities;
     private boolean enabled;
 
     public static SecurityUser build(User user) {
-        Collection<GrantedAuthority> authorities = Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-        );
-
         return new SecurityUser(
                 user.getId(),
                 user.getEmail(),
                 user.getPassword(),
                 user.getName(),
-                authorities,
+                user.getRole(),
+                authoritiesFor(user.getRole()),
                 user.getEnabled()
         );
     }
 
+    /**
+     * Builds a principal from verified token claims without touching the database.
+     */
+    public static SecurityUser fromClaims(Long id, String email, Role role) {
+        return new SecurityUser(id, email, null, null, role, authoritiesFor(role), true);
+    }
+
+    private static Collection<GrantedAuthority> authoritiesFor(Role role) {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
     @Override
     public String getUsername() {
         return email;
@@ -0,0 +1,44 @@
+package com.expenseiq.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals keyed by email, so authenticated
+ * requests do not hit the users table. Hit ratio is published as the "securityUsers" cache metrics.
+ */
+@Component
+public class SecurityUserCache {
+
+    private final Cache<String, SecurityUser> cache;
+
+    public SecurityUserCache(@Value("${security.principal-cache.max-size}") long maxSize,
+                             @Value("${security.principal-cache.ttl}") long ttlMs,
+                             MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "securityUsers");
+    }
+
+    public SecurityUser get(String email, Function<String, SecurityUser> loader) {
+        return cache.get(email, loader);
+    }
+
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
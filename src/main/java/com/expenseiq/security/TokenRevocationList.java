@@ -0,0 +1,138 @@
+package com.expenseiq.security;
+
+import com.expenseiq.entity.TokenRevocation;
+import com.expenseiq.repository.TokenRevocationRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * Denylist consulted for every stateless token: single tokens revoked on logout (by jti)
+ * and whole users whose tokens must stop working (disabled, role changed, deleted).
+ * Revocations are stored in token_revocations so every node and restart sees them, and
+ * read through short-TTL caches so a request costs at most one lookup per token and user
+ * per TTL. The revoking node applies the change to its own caches immediately; other nodes
+ * pick it up within the cache TTL. Rows only need to outlive the longest access token.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final TransactionTemplate writeTemplate;
+    private final Duration tokenLifetime;
+    private final LoadingCache<String, Boolean> revokedTokens;
+    private final LoadingCache<Long, Long> revokedUsers;
+
+    // Lazy: the User entity listener needs this list while the EntityManagerFactory is being built
+    public TokenRevocationList(@Lazy TokenRevocationRepository tokenRevocationRepository,
+                               @Lazy PlatformTransactionManager transactionManager,
+                               @Value("${jwt.expiration}") long jwtExpirationMs,
+                               @Value("${security.revocation.max-size}") long maxSize,
+                               @Value("${security.revocation.cache-ttl}") long cacheTtlMs) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tokenLifetime = Duration.ofMillis(jwtExpirationMs);
+        Duration ttl = Duration.ofMillis(cacheTtlMs);
+        this.revokedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build(tokenRevocationRepository::existsByTokenId);
+        // 0 when the user has no revocation on record
+        this.revokedUsers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build(userId -> {
+                    Long revokedAt = tokenRevocationRepository.findLatestRevocationByUserId(userId);
+                    return revokedAt != null ? revokedAt : 0L;
+                });
+    }
+
+    public void revokeToken(String tokenId) {
+        if (tokenId == null) {
+            return;
+        }
+        revokedTokens.put(tokenId, Boolean.TRUE);
+        persistAfterCommit(TokenRevocation.builder()
+                .tokenId(tokenId)
+                .revokedAt(Instant.now().getEpochSecond())
+                .expiresAt(LocalDateTime.now().plus(tokenLifetime))
+                .build());
+    }
+
+    /**
+     * Revokes every token issued to the user up to now; tokens minted afterwards are accepted.
+     */
+    public void revokeUser(Long userId) {
+        long now = Instant.now().getEpochSecond();
+        revokedUsers.put(userId, now);
+        persistAfterCommit(TokenRevocation.builder()
+                .userId(userId)
+                .revokedAt(now)
+                .expiresAt(LocalDateTime.now().plus(tokenLifetime))
+                .build());
+    }
+
+    public boolean isRevoked(Claims claims) {
+        if (claims.getId() != null && revokedTokens.get(claims.getId())) {
+            return true;
+        }
+        Long userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class);
+        if (userId == null) {
+            return false;
+        }
+        long revokedAt = revokedUsers.get(userId);
+        Date issuedAt = claims.getIssuedAt();
+        // iat has second precision, so a token issued in the revoking second is rejected too
+        return revokedAt > 0 && (issuedAt == null || issuedAt.toInstant().getEpochSecond() <= revokedAt);
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.purge-interval}")
+    public void purgeExpired() {
+        int purged = tokenRevocationRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.debug("Purged {} expired token revocations", purged);
+        }
+    }
+
+    // Callers revoke from entity listeners during a flush, so the row is written in its own
+    // transaction once the surrounding one has committed
+    private void persistAfterCommit(TokenRevocation revocation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    persist(revocation);
+                }
+            });
+        } else {
+            persist(revocation);
+        }
+    }
+
+    private void persist(TokenRevocation revocation) {
+        try {
+            writeTemplate.executeWithoutResult(status -> tokenRevocationRepository.save(revocation));
+        } catch (RuntimeException ex) {
+            // Still enforced on this node until its cache entry expires
+            log.error("Could not store token revocation for user {} / token {}",
+                    revocation.getUserId(), revocation.getTokenId(), ex);
+        }
+    }
+}
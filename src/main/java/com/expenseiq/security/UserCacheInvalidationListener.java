@@ -0,0 +1,88 @@
+package com.expenseiq.security;
+
+import com.expenseiq.entity.User;
+import com.expenseiq.enums.Role;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Evicts a user's cached principal whenever the user row changes (role, enabled flag,
+ * password, ...), once at flush and again after commit so no stale copy can be re-cached.
+ * An email change evicts the entry under the old email as well.
+ * Since access tokens carry the role, a role change, disabling or deleting the user also
+ * revokes the tokens already issued; other updates (profile, password rehash) leave them valid.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+
+    private record AuthState(Role role, Boolean enabled, String email) {
+        static AuthState of(User user) {
+            return new AuthState(user.getRole(), user.getEnabled(), user.getEmail());
+        }
+
+        boolean sameAuthorities(AuthState other) {
+            return other != null && role == other.role && Objects.equals(enabled, other.enabled);
+        }
+    }
+
+    // Role/enabled/email as last loaded or written, per managed instance
+    private final Map<User, AuthState> loadedStates = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final SecurityUserCache securityUserCache;
+    private final TokenRevocationList tokenRevocationList;
+
+    @PostLoad
+    @PostPersist
+    public void onUserLoaded(User user) {
+        loadedStates.put(user, AuthState.of(user));
+    }
+
+    @PostUpdate
+    public void onUserUpdated(User user) {
+        AuthState current = AuthState.of(user);
+        AuthState previous = loadedStates.put(user, current);
+        if (!Boolean.TRUE.equals(user.getEnabled()) || !current.sameAuthorities(previous)) {
+            tokenRevocationList.revokeUser(user.getId());
+        }
+        // The principal is cached under the email it was loaded with, which may just have changed
+        if (previous != null && !Objects.equals(previous.email(), current.email())) {
+            evictPrincipal(previous.email());
+        }
+        evictPrincipal(user.getEmail());
+    }
+
+    @PostRemove
+    public void onUserRemoved(User user) {
+        AuthState previous = loadedStates.remove(user);
+        tokenRevocationList.revokeUser(user.getId());
+        if (previous != null && !Objects.equals(previous.email(), user.getEmail())) {
+            evictPrincipal(previous.email());
+        }
+        evictPrincipal(user.getEmail());
+    }
+
+    private void evictPrincipal(String email) {
+        securityUserCache.invalidate(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    securityUserCache.invalidate(email);
+                }
+            });
+        }
+    }
+}
@@ -5,7 +5,8 @@ import com.expenseiq.dto.request.RegisterRequest;
 import com.expenseiq.dto.response.AuthResponse;
 
 public interface AuthService {
-    AuthResponse register(RegisterRequest request);
-    AuthResponse login(LoginRequest request);
+    AuthResponse register(RegisterRequest request, String clientIp);
+    AuthResponse login(LoginRequest request, String clientIp);
     AuthResponse refreshToken(String refreshToken);
+    void logout(String accessToken, String refreshToken);
 }
@@ -0,0 +1,5 @@
+package com.expenseiq.service;
+
+public interface BudgetAlertService {
+    void evaluate(Long userId, Long categoryId, int year, int month);
+}
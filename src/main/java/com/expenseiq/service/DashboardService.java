@@ -0,0 +1,15 @@
+package com.expenseiq.service;
+
+import com.expenseiq.dto.response.DashboardResponse;
+
+import java.util.Map;
+
+public interface DashboardService {
+
+    /**
+     * Dashboard payload plus how long each section took to load, in milliseconds.
+     */
+    record Dashboard(DashboardResponse response, Map<String, Long> sectionTimings) {}
+
+    Dashboard getDashboard(Long userId);
+}
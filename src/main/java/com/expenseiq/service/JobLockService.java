@@ -0,0 +1,15 @@
+package com.expenseiq.service;
+
+import java.time.Duration;
+
+public interface JobLockService {
+
+    /**
+     * Acquires (or, if this node already holds it, extends) the named lease.
+     *
+     * @return true if this node now holds the lease for the given duration
+     */
+    boolean tryAcquire(String name, Duration lease);
+
+    void release(String name);
+}
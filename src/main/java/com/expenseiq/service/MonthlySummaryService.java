@@ -0,0 +1,7 @@
+package com.expenseiq.service;
+
+import java.time.YearMonth;
+
+public interface MonthlySummaryService {
+    int summarizeUsers(YearMonth period, Long fromUserId, Long toUserId);
+}
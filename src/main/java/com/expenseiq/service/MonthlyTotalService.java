@@ -0,0 +1,20 @@
+package com.expenseiq.service;
+
+import com.expenseiq.entity.Transaction;
+import com.expenseiq.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+public interface MonthlyTotalService {
+    void recordTransaction(Transaction transaction);
+    void recordTransactions(Collection<Transaction> transactions);
+    void reverseTransaction(Transaction transaction);
+    Map<Long, BigDecimal> getCategoryTotals(Long userId, TransactionType type, int month, int year);
+    BigDecimal getCategoryTotal(Long userId, Long categoryId, TransactionType type, int month, int year);
+    BigDecimal sumByType(Long userId, TransactionType type, LocalDate startDate, LocalDate endDate);
+    boolean verifyAndRepair(Long userId);
+    void rebuild(Long userId);
+}
@@ -0,0 +1,14 @@
+package com.expenseiq.service;
+
+import com.expenseiq.dto.response.CursorPageResponse;
+import com.expenseiq.dto.response.NotificationResponse;
+import com.expenseiq.entity.User;
+import com.expenseiq.enums.NotificationType;
+
+public interface NotificationService {
+    void notify(User user, NotificationType type, String title, String message);
+    CursorPageResponse<NotificationResponse> getNotifications(Long userId, String cursor, int size, boolean unreadOnly);
+    long getUnreadCount(Long userId);
+    void markRead(Long userId, Long id);
+    int markAllRead(Long userId);
+}
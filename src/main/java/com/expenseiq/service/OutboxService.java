@@ -0,0 +1,12 @@
+package com.expenseiq.service;
+
+import java.util.function.Consumer;
+
+public interface OutboxService {
+    void publish(Long userId, Object event);
+    <T> void subscribe(Class<T> eventType, Consumer<T> handler);
+    Batch dispatchBatch(long afterUserId, long afterSequence);
+
+    /** Events fetched and delivered by one batch, and the (user, sequence) to continue after. */
+    record Batch(int fetched, int delivered, long lastUserId, long lastSequence) {}
+}
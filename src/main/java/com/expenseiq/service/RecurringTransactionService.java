@@ -0,0 +1,14 @@
+package com.expenseiq.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface RecurringTransactionService {
+
+    /**
+     * Generates all occurrences up to today for the given schedules that are still due.
+     *
+     * @return number of transactions generated
+     */
+    int materializeDue(LocalDate today, Collection<Long> recurringIds);
+}
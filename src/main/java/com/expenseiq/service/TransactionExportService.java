@@ -0,0 +1,12 @@
+package com.expenseiq.service;
+
+import com.expenseiq.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface TransactionExportService {
+    void exportTransactions(Long userId, LocalDate startDate, LocalDate endDate,
+                            ExportFormat format, OutputStream output) throws IOException;
+}
@@ -0,0 +1,12 @@
+package com.expenseiq.service;
+
+import com.expenseiq.dto.request.TransactionRequest;
+import com.expenseiq.dto.response.BulkImportResponse;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface TransactionImportService {
+    BulkImportResponse importTransactions(Long userId, List<TransactionRequest> requests);
+    BulkImportResponse importCsv(Long userId, InputStream csv);
+}
@@ -1,6 +1,7 @@
 package com.expenseiq.service;
 
 import com.expenseiq.dto.request.TransactionRequest;
+import com.expenseiq.dto.response.CursorPageResponse;
 import com.expenseiq.dto.response.TransactionResponse;
 import com.expenseiq.enums.TransactionType;
 import org.springframework.data.domain.Page;
@@ -17,6 +18,7 @@ public interface TransactionService {
     void deleteTransaction(Long userId, Long id);
     TransactionResponse getTransactionById(Long userId, Long id);
     Page<TransactionResponse> getAllTransactions(Long userId, Pageable pageable);
+    CursorPageResponse<TransactionResponse> getTransactionsByCursor(Long userId, String cursor, int size);
     Page<TransactionResponse> getTransactionsByFilters(
             Long userId,
             TransactionType type,
@@ -29,4 +31,5 @@ public interface TransactionService {
     );
     Map<String, BigDecimal> getTransactionSummary(Long userId, LocalDate startDate, LocalDate endDate);
     List<TransactionResponse> getRecentTransactions(Long userId, int limit);
+    List<TransactionResponse> searchTransactions(Long userId, String query, int limit);
 }
@@ -7,9 +7,14 @@ import com.expenseiq.dto.response.UserResponse;
 import com.expenseiq.entity.User;
 import com.expenseiq.enums.Role;
 import com.expenseiq.exception.DuplicateResourceException;
+import com.expenseiq.exception.UnauthorizedException;
 import com.expenseiq.repository.UserRepository;
 import com.expenseiq.security.JwtTokenProvider;
+import com.expenseiq.security.LoginRateLimiter;
+import com.expenseiq.security.RefreshTokenStore;
+import com.expenseiq.security.TokenRevocationList;
 import com.expenseiq.service.AuthService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -20,6 +25,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
@@ -28,13 +34,19 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LoginRateLimiter loginRateLimiter;
 
     @Value("${jwt.expiration}")
     private long jwtExpirationMs;
 
     @Override
     @Transactional
-    public AuthResponse register(RegisterRequest request) {
+    public AuthResponse register(RegisterRequest request, String clientIp) {
+        // Throttle before the password encoder runs
+        loginRateLimiter.checkRegistrationAllowed(clientIp);
+
         // Check if email already exists
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new DuplicateResourceException("Email already exists");
@@ -53,8 +65,8 @@ public class AuthServiceImpl implements AuthService {
         user = userRepository.save(user);
 
         // Generate tokens
-        String token = tokenProvider.generateTokenFromEmail(user.getEmail());
-        String refreshToken = tokenProvider.generateRefreshToken(user.getEmail());
+        String token = tokenProvider.generateTokenFromEmail(user.getEmail(), user.getId(), user.getRole());
+        String refreshToken = refreshTokenStore.issue(user, null);
 
         // Build response
         UserResponse userResponse = UserResponse.builder()
@@ -75,7 +87,10 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public AuthResponse login(LoginRequest request) {
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        // Throttle before the password encoder runs
+        loginRateLimiter.checkAllowed(clientIp, request.getEmail());
+
         // Authenticate user
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
@@ -83,14 +98,14 @@ public class AuthServiceImpl implements AuthService {
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // Generate tokens
-        String token = tokenProvider.generateToken(authentication);
-        String refreshToken = tokenProvider.generateRefreshToken(request.getEmail());
-
         // Get user details
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
+        // Generate tokens
+        String token = tokenProvider.generateToken(authentication);
+        String refreshToken = refreshTokenStore.issue(user, null);
+
         UserResponse userResponse = UserResponse.builder()
                 .id(user.getId())
                 .email(user.getEmail())
@@ -109,31 +124,49 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
+    @Transactional(noRollbackFor = UnauthorizedException.class)
     public AuthResponse refreshToken(String refreshToken) {
-        if (tokenProvider.validateToken(refreshToken)) {
-            String email = tokenProvider.getEmailFromToken(refreshToken);
-            String newToken = tokenProvider.generateTokenFromEmail(email);
-            String newRefreshToken = tokenProvider.generateRefreshToken(email);
-
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            UserResponse userResponse = UserResponse.builder()
-                    .id(user.getId())
-                    .email(user.getEmail())
-                    .name(user.getName())
-                    .profilePicture(user.getProfilePicture())
-                    .currency(user.getCurrency())
-                    .build();
-
-            return AuthResponse.builder()
-                    .token(newToken)
-                    .refreshToken(newRefreshToken)
-                    .type("Bearer")
-                    .expiresIn(jwtExpirationMs)
-                    .user(userResponse)
-                    .build();
+        Claims claims = tokenProvider.parseAndValidate(refreshToken)
+                .filter(c -> !JwtTokenProvider.TOKEN_TYPE_ACCESS.equals(
+                        c.get(JwtTokenProvider.CLAIM_TOKEN_TYPE, String.class)))
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+        // Rotation consumes the presented token; replaying it later revokes the family
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(claims.getId());
+        User user = userRepository.findById(rotation.userId())
+                .filter(u -> Boolean.TRUE.equals(u.getEnabled()))
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+        String newToken = tokenProvider.generateTokenFromEmail(user.getEmail(), user.getId(), user.getRole());
+        String newRefreshToken = refreshTokenStore.issue(user, rotation.familyId());
+
+        UserResponse userResponse = UserResponse.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .name(user.getName())
+                .profilePicture(user.getProfilePicture())
+                .currency(user.getCurrency())
+                .build();
+
+        return AuthResponse.builder()
+                .token(newToken)
+                .refreshToken(newRefreshToken)
+                .type("Bearer")
+                .expiresIn(jwtExpirationMs)
+                .user(userResponse)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            tokenProvider.parseAndValidate(accessToken)
+                    .ifPresent(claims -> tokenRevocationList.revokeToken(claims.getId()));
+        }
+        if (refreshToken != null) {
+            tokenProvider.parseAndValidate(refreshToken)
+                    .ifPresent(claims -> refreshTokenStore.revoke(claims.getId()));
         }
-        throw new RuntimeException("Invalid refresh token");
     }
 }
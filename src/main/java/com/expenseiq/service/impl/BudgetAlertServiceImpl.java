@@ -0,0 +1,101 @@
+package com.expenseiq.service.impl;
+
+import com.expenseiq.entity.Budget;
+import com.expenseiq.enums.NotificationType;
+import com.expenseiq.enums.TransactionType;
+import com.expenseiq.event.ExpenseChangedEvent;
+import com.expenseiq.repository.BudgetRepository;
+import com.expenseiq.service.BudgetAlertService;
+import com.expenseiq.service.MonthlyTotalService;
+import com.expenseiq.service.NotificationService;
+import com.expenseiq.service.OutboxService;
+import com.expenseiq.stream.BudgetThresholdEvent;
+import com.expenseiq.stream.UserEventStream;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Month;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Checks a single budget against its month's spending whenever that spending changes, and
+ * raises a BUDGET_ALERT the first time each threshold is crossed. The highest threshold
+ * already alerted is stored on the budget and moved with conditional updates, so concurrent
+ * evaluations (or nodes) alert at most once; dropping back below a threshold re-arms it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BudgetAlertServiceImpl implements BudgetAlertService {
+
+    private final BudgetRepository budgetRepository;
+    private final NotificationService notificationService;
+    private final MonthlyTotalService monthlyTotalService;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final UserEventStream userEventStream;
+
+    @Value("${budget.alerts.thresholds}")
+    private List<Integer> thresholds;
+
+    @PostConstruct
+    void subscribe() {
+        // Re-evaluating is idempotent, so at-least-once delivery from the outbox is fine
+        outboxService.subscribe(ExpenseChangedEvent.class, event -> transactionTemplate.executeWithoutResult(
+                status -> evaluate(event.userId(), event.categoryId(), event.year(), event.month())));
+    }
+
+    @Override
+    @Transactional
+    public void evaluate(Long userId, Long categoryId, int year, int month) {
+        Budget budget = budgetRepository.findByUserIdAndCategoryIdAndMonthAndYear(userId, categoryId, month, year)
+                .orElse(null);
+        if (budget == null || budget.getAmount().signum() <= 0) {
+            return;
+        }
+
+        BigDecimal spent = monthlyTotalService.getCategoryTotal(
+                userId, categoryId, TransactionType.EXPENSE, month, year);
+        int percentUsed = spent.multiply(BigDecimal.valueOf(100))
+                .divide(budget.getAmount(), 0, RoundingMode.FLOOR)
+                .intValue();
+        int reached = thresholds.stream()
+                .filter(threshold -> percentUsed >= threshold)
+                .max(Integer::compare)
+                .orElse(0);
+        int alerted = budget.getAlertedThreshold() != null ? budget.getAlertedThreshold() : 0;
+
+        if (reached < alerted) {
+            budgetRepository.lowerAlertedThreshold(budget.getId(), reached);
+        } else if (reached > alerted && budgetRepository.raiseAlertedThreshold(budget.getId(), reached) == 1) {
+            sendAlert(budget, spent, reached, percentUsed);
+            userEventStream.publishAfterCommit(userId, UserEventStream.EVENT_BUDGET_THRESHOLD,
+                    new BudgetThresholdEvent(budget.getId(), categoryId, month, year, reached, percentUsed));
+            log.debug("Budget {} crossed {}% for user {}", budget.getId(), reached, userId);
+        }
+    }
+
+    private void sendAlert(Budget budget, BigDecimal spent, int threshold, int percentUsed) {
+        String category = budget.getCategory().getName();
+        String period = Month.of(budget.getMonth()).getDisplayName(TextStyle.FULL, Locale.ENGLISH)
+                + " " + budget.getYear();
+        String title = threshold >= 100
+                ? "Budget exceeded: " + category
+                : "Budget at " + threshold + "%: " + category;
+
+        notificationService.notify(budget.getUser(), NotificationType.BUDGET_ALERT, title,
+                String.format("You have spent %s of your %s %s budget for %s (%d%%).",
+                        spent.setScale(2, RoundingMode.HALF_UP).toPlainString(),
+                        budget.getAmount().setScale(2, RoundingMode.HALF_UP).toPlainString(),
+                        category, period, percentUsed));
+    }
+}
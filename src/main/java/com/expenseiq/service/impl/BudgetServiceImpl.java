@@ -7,13 +7,15 @@ import com.expenseiq.entity.Budget;
 import com.expenseiq.entity.Category;
 import com.expenseiq.entity.User;
 import com.expenseiq.enums.TransactionType;
+import com.expenseiq.event.ExpenseChangedEvent;
 import com.expenseiq.exception.DuplicateResourceException;
 import com.expenseiq.exception.ResourceNotFoundException;
 import com.expenseiq.repository.BudgetRepository;
 import com.expenseiq.repository.CategoryRepository;
-import com.expenseiq.repository.TransactionRepository;
 import com.expenseiq.repository.UserRepository;
+import com.expenseiq.service.OutboxService;
 import com.expenseiq.service.BudgetService;
+import com.expenseiq.service.MonthlyTotalService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,7 +33,8 @@ public class BudgetServiceImpl implements BudgetService {
     private final BudgetRepository budgetRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
-    private final TransactionRepository transactionRepository;
+    private final MonthlyTotalService monthlyTotalService;
+    private final OutboxService outboxService;
 
     @Override
     @Transactional
@@ -53,6 +57,7 @@ public class BudgetServiceImpl implements BudgetService {
                 .build();
 
         budget = budgetRepository.save(budget);
+        publishBudgetChanged(budget, userId);
         return mapToResponse(budget, userId);
     }
 
@@ -66,8 +71,11 @@ public class BudgetServiceImpl implements BudgetService {
         budget.setAmount(request.getAmount());
         budget.setMonth(request.getMonth());
         budget.setYear(request.getYear());
+        // A changed limit or period starts alerting from scratch
+        budget.setAlertedThreshold(null);
 
         budget = budgetRepository.save(budget);
+        publishBudgetChanged(budget, userId);
         return mapToResponse(budget, userId);
     }
 
@@ -87,8 +95,17 @@ public class BudgetServiceImpl implements BudgetService {
     @Override
     public List<BudgetResponse> getBudgetsByMonth(Long userId, Integer month, Integer year) {
         List<Budget> budgets = budgetRepository.findByUserIdAndMonthAndYear(userId, month, year);
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
+
+        // One rollup read covers every budgeted category of the month
+        Map<Long, BigDecimal> spentByCategory = monthlyTotalService.getCategoryTotals(
+                userId, TransactionType.EXPENSE, month, year);
+
         return budgets.stream()
-                .map(budget -> mapToResponse(budget, userId))
+                .map(budget -> mapToResponse(budget,
+                        spentByCategory.getOrDefault(budget.getCategory().getId(), BigDecimal.ZERO)))
                 .collect(Collectors.toList());
     }
 
@@ -112,20 +129,20 @@ public class BudgetServiceImpl implements BudgetService {
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
     }
 
+    private void publishBudgetChanged(Budget budget, Long userId) {
+        // Evaluated like a spending change, so a budget set below current spending alerts right away
+        outboxService.publish(userId, new ExpenseChangedEvent(
+                userId, budget.getCategory().getId(), budget.getYear(), budget.getMonth()));
+    }
+
     private BudgetResponse mapToResponse(Budget budget, Long userId) {
-        // Calculate spent amount
-        BigDecimal spent = transactionRepository.sumByCategoryAndMonthAndYear(
-                userId,
-                TransactionType.EXPENSE,
-                budget.getCategory().getId(),
-                budget.getMonth(),
-                budget.getYear()
-        );
-
-        if (spent == null) {
-            spent = BigDecimal.ZERO;
-        }
+        BigDecimal spent = monthlyTotalService.getCategoryTotal(
+                userId, budget.getCategory().getId(), TransactionType.EXPENSE, budget.getMonth(), budget.getYear());
+
+        return mapToResponse(budget, spent != null ? spent : BigDecimal.ZERO);
+    }
 
+    private BudgetResponse mapToResponse(Budget budget, BigDecimal spent) {
         BigDecimal remaining = budget.getAmount().subtract(spent);
         Double percentageUsed = spent.divide(budget.getAmount(), 4, RoundingMode.HALF_UP)
                 .multiply(BigDecimal.valueOf(100))
@@ -0,0 +1,146 @@
+package com.expenseiq.service.impl;
+
+import com.expenseiq.dto.request.TransactionRequest;
+import com.expenseiq.enums.TransactionType;
+import com.expenseiq.exception.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Reads transaction rows from a CSV stream one line at a time. The first line is a
+ * header naming the columns: date, type, amount, categoryId, accountId and optionally
+ * description and receiptUrl. Fields may be double-quoted; quoted line breaks are not supported.
+ */
+class CsvTransactionReader implements Iterator<TransactionRequest>, Closeable {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("date", "type", "amount", "categoryid", "accountid");
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private String nextLine;
+    private int lineNumber;
+
+    CsvTransactionReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String header = readLine();
+        if (header == null) {
+            throw new BadRequestException("CSV file is empty");
+        }
+        List<String> names = parseLine(header.replace("\uFEFF", ""));
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new BadRequestException("CSV header is missing column: " + column);
+            }
+        }
+        advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextLine != null;
+    }
+
+    @Override
+    public TransactionRequest next() {
+        if (nextLine == null) {
+            throw new NoSuchElementException();
+        }
+        List<String> fields = parseLine(nextLine);
+        int row = lineNumber;
+        advance();
+
+        try {
+            TransactionRequest request = new TransactionRequest();
+            request.setDate(LocalDate.parse(field(fields, "date")));
+            request.setType(TransactionType.valueOf(field(fields, "type").toUpperCase(Locale.ROOT)));
+            request.setAmount(new BigDecimal(field(fields, "amount")));
+            request.setCategoryId(Long.parseLong(field(fields, "categoryid")));
+            request.setAccountId(Long.parseLong(field(fields, "accountid")));
+            request.setDescription(optionalField(fields, "description"));
+            request.setReceiptUrl(optionalField(fields, "receipturl"));
+            return request;
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Line " + row + ": invalid value");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void advance() {
+        do {
+            nextLine = readLine();
+        } while (nextLine != null && nextLine.isBlank());
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        String value = optionalField(fields, column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        return value;
+    }
+
+    private String optionalField(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
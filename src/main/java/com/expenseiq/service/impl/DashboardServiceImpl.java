@@ -0,0 +1,102 @@
+package com.expenseiq.service.impl;
+
+import com.expenseiq.dto.response.DashboardResponse;
+import com.expenseiq.service.AccountService;
+import com.expenseiq.service.BudgetService;
+import com.expenseiq.service.DashboardService;
+import com.expenseiq.service.GoalService;
+import com.expenseiq.service.TransactionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final int RECENT_TRANSACTIONS = 5;
+
+    private final TransactionService transactionService;
+    private final BudgetService budgetService;
+    private final GoalService goalService;
+    private final AccountService accountService;
+
+    private final AsyncTaskExecutor dashboardExecutor;
+
+    @Value("${dashboard.timeout}")
+    private long timeoutMs;
+
+    @Override
+    public Dashboard getDashboard(Long userId) {
+        LocalDate today = LocalDate.now();
+        Map<String, Long> timings = new ConcurrentHashMap<>();
+
+        // Sections load concurrently on the dashboard executor. They share no transaction:
+        // each query sees the data committed when it runs, so sections may differ by a write
+        var summary = section("summary", timings,
+                () -> transactionService.getTransactionSummary(userId, today.withDayOfMonth(1), today));
+        var recent = section("recent", timings,
+                () -> transactionService.getRecentTransactions(userId, RECENT_TRANSACTIONS));
+        var budgets = section("budgets", timings,
+                () -> budgetService.getBudgetProgress(userId, today.getMonthValue(), today.getYear()));
+        var goals = section("goals", timings,
+                () -> goalService.getAllGoals(userId));
+        var accounts = section("accounts", timings,
+                () -> accountService.getAllAccounts(userId));
+
+        List<Future<?>> sections = List.of(summary, recent, budgets, goals, accounts);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        try {
+            DashboardResponse response = DashboardResponse.builder()
+                    .summary(await(summary, deadline))
+                    .recentTransactions(await(recent, deadline))
+                    .budgets(await(budgets, deadline))
+                    .goals(await(goals, deadline))
+                    .accounts(await(accounts, deadline))
+                    .build();
+            return new Dashboard(response, timings);
+        } finally {
+            // No-op for finished sections; interrupts the rest after a timeout or failure
+            sections.forEach(section -> section.cancel(true));
+        }
+    }
+
+    private <T> Future<T> section(String name, Map<String, Long> timings, Supplier<T> loader) {
+        return dashboardExecutor.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                return loader.get();
+            } finally {
+                timings.put(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        });
+    }
+
+    private <T> T await(Future<T> section, long deadline) {
+        try {
+            return section.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading dashboard", ex);
+        } catch (TimeoutException ex) {
+            throw new IllegalStateException("Dashboard did not load within " + timeoutMs + " ms", ex);
+        } catch (ExecutionException ex) {
+            // Surface the section's own exception so the usual error mapping applies
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to load dashboard", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.expenseiq.service.impl;
+
+import com.expenseiq.entity.JobLock;
+import com.expenseiq.repository.JobLockRepository;
+import com.expenseiq.service.JobLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Named leases in the job_locks table, so scheduled work runs on one node at a time even when
+ * several instances are deployed. A lease that is not released (crashed node) simply expires.
+ * Each acquire/release commits on its own, outside any caller transaction.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobLockServiceImpl implements JobLockService {
+
+    private static final String NODE_ID = nodeId();
+
+    private final JobLockRepository jobLockRepository;
+
+    @Override
+    public boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lease);
+        if (jobLockRepository.acquire(name, NODE_ID, now, until) == 1) {
+            return true;
+        }
+        if (jobLockRepository.existsByName(name)) {
+            return false;
+        }
+
+        // First use of this lock: whichever node inserts the row holds it
+        try {
+            jobLockRepository.saveAndFlush(JobLock.builder()
+                    .name(name)
+                    .owner(NODE_ID)
+                    .lockedUntil(until)
+                    .build());
+            return true;
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Job lock {} is held by another node", name);
+            return false;
+        }
+    }
+
+    @Override
+    public void release(String name) {
+        jobLockRepository.release(name, NODE_ID, LocalDateTime.now());
+    }
+
+    private static String nodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            host = "unknown";
+        }
+        if (host.length() > 80) {
+            host = host.substring(0, 80);
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
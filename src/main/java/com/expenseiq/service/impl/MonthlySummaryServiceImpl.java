@@ -0,0 +1,173 @@
+package com.expenseiq.service.impl;
+
+import com.expenseiq.enums.NotificationType;
+import com.expenseiq.enums.TransactionType;
+import com.expenseiq.repository.BudgetRepository;
+import com.expenseiq.repository.MonthlyCategoryTotalRepository;
+import com.expenseiq.repository.NotificationRepository;
+import com.expenseiq.repository.UserRepository;
+import com.expenseiq.repository.projection.UserBudgetRow;
+import com.expenseiq.repository.projection.UserCategoryTotal;
+import com.expenseiq.service.MonthlySummaryService;
+import com.expenseiq.service.NotificationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Builds MONTHLY_SUMMARY notifications for a range of user ids. Everything is read from the
+ * monthly rollup and budgets with two streaming queries per range, never from raw
+ * transactions, and the notifications are written in batches of a few hundred per
+ * transaction. Users that already have the month's summary are skipped, so a range can be
+ * re-run after a failure.
+ */
+@Service
+public class MonthlySummaryServiceImpl implements MonthlySummaryService {
+
+    private static final int TOP_CATEGORIES = 3;
+
+    private static final class UserSummary {
+        private final String currency;
+        private BigDecimal income = BigDecimal.ZERO;
+        private BigDecimal expense = BigDecimal.ZERO;
+        private final Map<Long, String> categoryNames = new HashMap<>();
+        private final Map<Long, BigDecimal> spentByCategory = new HashMap<>();
+        private final List<UserBudgetRow> budgets = new ArrayList<>();
+
+        private UserSummary(String currency) {
+            this.currency = currency;
+        }
+    }
+
+    private final MonthlyCategoryTotalRepository monthlyTotalRepository;
+    private final BudgetRepository budgetRepository;
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate writeTemplate;
+
+    @Value("${monthly-summary.write-batch-size}")
+    private int writeBatchSize;
+
+    public MonthlySummaryServiceImpl(MonthlyCategoryTotalRepository monthlyTotalRepository,
+                                     BudgetRepository budgetRepository,
+                                     NotificationRepository notificationRepository,
+                                     UserRepository userRepository,
+                                     NotificationService notificationService,
+                                     PlatformTransactionManager transactionManager) {
+        this.monthlyTotalRepository = monthlyTotalRepository;
+        this.budgetRepository = budgetRepository;
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public int summarizeUsers(YearMonth period, Long fromUserId, Long toUserId) {
+        String title = "Monthly summary: " + periodName(period);
+
+        Map<Long, UserSummary> summaries = readTemplate.execute(status -> readSummaries(period, fromUserId, toUserId));
+        notificationRepository.findUserIdsNotified(NotificationType.MONTHLY_SUMMARY, title, fromUserId, toUserId)
+                .forEach(summaries::remove);
+
+        List<Map.Entry<Long, UserSummary>> pending = new ArrayList<>(summaries.entrySet());
+        for (int start = 0; start < pending.size(); start += writeBatchSize) {
+            List<Map.Entry<Long, UserSummary>> batch = pending.subList(start, Math.min(start + writeBatchSize, pending.size()));
+            writeTemplate.executeWithoutResult(status -> batch.forEach(entry -> notificationService.notify(
+                    userRepository.getReferenceById(entry.getKey()),
+                    NotificationType.MONTHLY_SUMMARY,
+                    title,
+                    buildMessage(entry.getValue()))));
+        }
+        return pending.size();
+    }
+
+    private Map<Long, UserSummary> readSummaries(YearMonth period, Long fromUserId, Long toUserId) {
+        // Ordered by user id; only users with activity or a budget in the month get a summary
+        Map<Long, UserSummary> summaries = new TreeMap<>();
+
+        try (Stream<UserCategoryTotal> totals = monthlyTotalRepository.streamUserTotals(
+                fromUserId, toUserId, period.getYear(), period.getMonthValue())) {
+            totals.forEach(row -> {
+                UserSummary summary = summaries.computeIfAbsent(row.getUserId(), id -> new UserSummary(row.getCurrency()));
+                if (row.getType() == TransactionType.INCOME) {
+                    summary.income = summary.income.add(row.getTotal());
+                } else {
+                    summary.expense = summary.expense.add(row.getTotal());
+                    summary.categoryNames.put(row.getCategoryId(), row.getCategoryName());
+                    summary.spentByCategory.merge(row.getCategoryId(), row.getTotal(), BigDecimal::add);
+                }
+            });
+        }
+
+        try (Stream<UserBudgetRow> budgets = budgetRepository.streamUserBudgets(
+                fromUserId, toUserId, period.getMonthValue(), period.getYear())) {
+            budgets.forEach(row -> summaries
+                    .computeIfAbsent(row.getUserId(), id -> new UserSummary(row.getCurrency()))
+                    .budgets.add(row));
+        }
+        return summaries;
+    }
+
+    private static String buildMessage(UserSummary summary) {
+        String currency = summary.currency;
+        StringBuilder message = new StringBuilder()
+                .append("Income ").append(money(summary.income, currency))
+                .append(", expenses ").append(money(summary.expense, currency))
+                .append(", net ").append(money(summary.income.subtract(summary.expense), currency))
+                .append('.');
+
+        if (!summary.spentByCategory.isEmpty()) {
+            String top = summary.spentByCategory.entrySet().stream()
+                    .sorted(Map.Entry.<Long, BigDecimal>comparingByValue().reversed())
+                    .limit(TOP_CATEGORIES)
+                    .map(entry -> summary.categoryNames.get(entry.getKey()) + " " + money(entry.getValue(), currency))
+                    .collect(Collectors.joining(", "));
+            message.append(" Top spending: ").append(top).append('.');
+        }
+
+        if (!summary.budgets.isEmpty()) {
+            List<String> over = new ArrayList<>();
+            for (UserBudgetRow budget : summary.budgets) {
+                BigDecimal spent = summary.spentByCategory.getOrDefault(budget.getCategoryId(), BigDecimal.ZERO);
+                if (spent.compareTo(budget.getAmount()) > 0) {
+                    over.add(budget.getCategoryName() + " (" + money(spent, currency)
+                            + " of " + money(budget.getAmount(), currency) + ")");
+                }
+            }
+            message.append(" Budgets: ")
+                    .append(summary.budgets.size() - over.size()).append(" of ").append(summary.budgets.size())
+                    .append(" kept");
+            if (!over.isEmpty()) {
+                message.append("; over budget: ").append(String.join(", ", over));
+            }
+            message.append('.');
+        }
+        return message.toString();
+    }
+
+    private static String money(BigDecimal amount, String currency) {
+        return String.format(Locale.ENGLISH, "%s %,.2f", currency, amount);
+    }
+
+    private static String periodName(YearMonth period) {
+        return period.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH) + " " + period.getYear();
+    }
+}
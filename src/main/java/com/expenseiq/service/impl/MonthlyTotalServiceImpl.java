@@ -0,0 +1,203 @@
+package com.expenseiq.service.impl;
+
+import com.expenseiq.entity.MonthlyCategoryTotal;
+import com.expenseiq.entity.Transaction;
+import com.expenseiq.enums.TransactionType;
+import com.expenseiq.repository.CategoryRepository;
+import com.expenseiq.repository.MonthlyCategoryTotalRepository;
+import com.expenseiq.repository.TransactionRepository;
+import com.expenseiq.repository.UserRepository;
+import com.expenseiq.repository.projection.CategoryTotal;
+import com.expenseiq.repository.projection.MonthlyTotalRow;
+import com.expenseiq.service.MonthlyTotalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyTotalServiceImpl implements MonthlyTotalService {
+
+    private final MonthlyCategoryTotalRepository monthlyTotalRepository;
+    private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+
+    @Override
+    @Transactional
+    public void recordTransaction(Transaction transaction) {
+        applyDelta(transaction, transaction.getAmount(), 1);
+    }
+
+    @Override
+    @Transactional
+    public void recordTransactions(Collection<Transaction> transactions) {
+        // Collapse the batch to one delta per (user, category, type, month) before touching the
+        // rollup; a batch may span users, and default categories are shared between them
+        Map<String, List<Transaction>> groups = transactions.stream()
+                .collect(Collectors.groupingBy(transaction -> transaction.getUser().getId() + ":" + key(
+                        transaction.getCategory().getId(),
+                        transaction.getType(),
+                        transaction.getDate().getYear(),
+                        transaction.getDate().getMonthValue())));
+
+        for (List<Transaction> group : groups.values()) {
+            BigDecimal amount = group.stream()
+                    .map(Transaction::getAmount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            applyDelta(group.get(0), amount, group.size());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void reverseTransaction(Transaction transaction) {
+        applyDelta(transaction, transaction.getAmount().negate(), -1);
+    }
+
+    @Override
+    public Map<Long, BigDecimal> getCategoryTotals(Long userId, TransactionType type, int month, int year) {
+        return monthlyTotalRepository.findCategoryTotals(userId, type, year, month).stream()
+                .collect(Collectors.toMap(CategoryTotal::getCategoryId, CategoryTotal::getTotal));
+    }
+
+    @Override
+    public BigDecimal getCategoryTotal(Long userId, Long categoryId, TransactionType type, int month, int year) {
+        return monthlyTotalRepository.findCategoryTotal(userId, categoryId, type, year, month);
+    }
+
+    @Override
+    public BigDecimal sumByType(Long userId, TransactionType type, LocalDate startDate, LocalDate endDate) {
+        // Whole months inside [startDate, endDate] come from the rollup; partial months at
+        // either edge are summed from raw transactions over an indexed date range.
+        LocalDate firstFullMonth = startDate.getDayOfMonth() == 1
+                ? startDate : startDate.withDayOfMonth(1).plusMonths(1);
+        LocalDate fullMonthsEnd = endDate.plusDays(1).withDayOfMonth(1);
+
+        if (!firstFullMonth.isBefore(fullMonthsEnd)) {
+            return sumRaw(userId, type, startDate, endDate);
+        }
+
+        BigDecimal total = monthlyTotalRepository.sumByTypeAndPeriodRange(
+                userId, type, toPeriod(firstFullMonth), toPeriod(fullMonthsEnd));
+
+        if (startDate.isBefore(firstFullMonth)) {
+            total = total.add(sumRaw(userId, type, startDate, firstFullMonth.minusDays(1)));
+        }
+        if (!fullMonthsEnd.isAfter(endDate)) {
+            total = total.add(sumRaw(userId, type, fullMonthsEnd, endDate));
+        }
+        return total;
+    }
+
+    @Override
+    @Transactional
+    public boolean verifyAndRepair(Long userId) {
+        Map<String, MonthlyTotalRow> expected = transactionRepository.aggregateMonthlyTotalsByUserId(userId)
+                .stream()
+                .collect(Collectors.toMap(
+                        row -> key(row.getCategoryId(), row.getType(), row.getYear(), row.getMonth()),
+                        row -> row));
+
+        Map<String, MonthlyCategoryTotal> actual = new HashMap<>();
+        for (MonthlyCategoryTotal total : monthlyTotalRepository.findByUserId(userId)) {
+            if (total.getTransactionCount() > 0) {
+                actual.put(key(total.getCategory().getId(), total.getType(), total.getYear(), total.getMonth()), total);
+            }
+        }
+
+        boolean consistent = expected.size() == actual.size() && expected.entrySet().stream()
+                .allMatch(entry -> matches(entry.getValue(), actual.get(entry.getKey())));
+
+        if (!consistent) {
+            log.warn("Monthly totals for user {} are out of sync, rebuilding", userId);
+            rebuild(userId);
+        }
+        return consistent;
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(Long userId) {
+        // Same lock as the first-entry path in applyDelta, so no row is inserted between
+        // the delete and the re-aggregation
+        userRepository.lockById(userId);
+        monthlyTotalRepository.deleteByUserId(userId);
+
+        List<MonthlyCategoryTotal> totals = transactionRepository.aggregateMonthlyTotalsByUserId(userId)
+                .stream()
+                .map(row -> MonthlyCategoryTotal.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .category(categoryRepository.getReferenceById(row.getCategoryId()))
+                        .type(row.getType())
+                        .year(row.getYear())
+                        .month(row.getMonth())
+                        .total(row.getTotal())
+                        .transactionCount(row.getTransactionCount())
+                        .build())
+                .collect(Collectors.toList());
+
+        monthlyTotalRepository.saveAll(totals);
+    }
+
+    private void applyDelta(Transaction transaction, BigDecimal amount, long count) {
+        Long userId = transaction.getUser().getId();
+        Long categoryId = transaction.getCategory().getId();
+        int year = transaction.getDate().getYear();
+        int month = transaction.getDate().getMonthValue();
+
+        int updated = monthlyTotalRepository.applyDelta(
+                userId, categoryId, transaction.getType(), year, month, amount, count);
+
+        if (updated == 0) {
+            // First entry for this month: serialize creation on the user row, then re-check,
+            // so concurrent requests cannot both insert and trip the unique constraint
+            userRepository.lockById(userId);
+            updated = monthlyTotalRepository.applyDelta(
+                    userId, categoryId, transaction.getType(), year, month, amount, count);
+        }
+
+        if (updated == 0) {
+            MonthlyCategoryTotal total = MonthlyCategoryTotal.builder()
+                    .user(transaction.getUser())
+                    .category(transaction.getCategory())
+                    .type(transaction.getType())
+                    .year(year)
+                    .month(month)
+                    .total(amount)
+                    .transactionCount(count)
+                    .build();
+            monthlyTotalRepository.save(total);
+        }
+    }
+
+    private BigDecimal sumRaw(Long userId, TransactionType type, LocalDate startDate, LocalDate endDate) {
+        BigDecimal sum = transactionRepository.sumByUserIdAndTypeAndDateBetween(userId, type, startDate, endDate);
+        return sum != null ? sum : BigDecimal.ZERO;
+    }
+
+    private static int toPeriod(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue();
+    }
+
+    private static String key(Long categoryId, TransactionType type, Integer year, Integer month) {
+        return categoryId + ":" + type + ":" + year + ":" + month;
+    }
+
+    private static boolean matches(MonthlyTotalRow expected, MonthlyCategoryTotal actual) {
+        return actual != null
+                && expected.getTotal().compareTo(actual.getTotal()) == 0
+                && Objects.equals(expected.getTransactionCount(), actual.getTransactionCount());
+    }
+}
@@ -0,0 +1,111 @@
+package com.expenseiq.service.impl;
+
+import com.expenseiq.dto.response.CursorPageResponse;
+import com.expenseiq.dto.response.NotificationResponse;
+import com.expenseiq.entity.Notification;
+import com.expenseiq.entity.User;
+import com.expenseiq.enums.NotificationType;
+import com.expenseiq.exception.BadRequestException;
+import com.expenseiq.exception.ResourceNotFoundException;
+import com.expenseiq.notification.UnreadNotificationCounter;
+import com.expenseiq.repository.NotificationRepository;
+import com.expenseiq.service.NotificationService;
+import com.expenseiq.stream.UserEventStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationServiceImpl implements NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadCounter;
+    private final UserEventStream userEventStream;
+
+    @Override
+    @Transactional
+    public void notify(User user, NotificationType type, String title, String message) {
+        Notification notification = notificationRepository.save(Notification.builder()
+                .user(user)
+                .type(type)
+                .title(title.length() > 100 ? title.substring(0, 100) : title)
+                .message(message)
+                .isRead(false)
+                .build());
+        unreadCounter.adjustAfterCommit(user.getId(), 1);
+        userEventStream.publishAfterCommit(user.getId(), UserEventStream.EVENT_NOTIFICATION,
+                mapToResponse(notification));
+    }
+
+    @Override
+    public CursorPageResponse<NotificationResponse> getNotifications(Long userId, String cursor, int size,
+                                                                     boolean unreadOnly) {
+        // Keyset on id: the cursor is the last id of the previous page
+        long beforeId = StringUtils.hasText(cursor) ? parseCursor(cursor) : Long.MAX_VALUE;
+        Slice<Notification> slice = notificationRepository.findSliceByUserIdBefore(
+                userId, beforeId, unreadOnly, PageRequest.of(0, size));
+
+        List<Notification> notifications = slice.getContent();
+        String nextCursor = slice.hasNext() && !notifications.isEmpty()
+                ? String.valueOf(notifications.get(notifications.size() - 1).getId())
+                : null;
+
+        return CursorPageResponse.<NotificationResponse>builder()
+                .content(notifications.stream().map(this::mapToResponse).collect(Collectors.toList()))
+                .size(notifications.size())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    public long getUnreadCount(Long userId) {
+        return unreadCounter.get(userId);
+    }
+
+    @Override
+    @Transactional
+    public void markRead(Long userId, Long id) {
+        if (notificationRepository.markRead(id, userId) == 1) {
+            unreadCounter.adjustAfterCommit(userId, -1);
+        } else if (!notificationRepository.existsByIdAndUserId(id, userId)) {
+            throw new ResourceNotFoundException("Notification not found");
+        }
+    }
+
+    @Override
+    @Transactional
+    public int markAllRead(Long userId) {
+        int updated = notificationRepository.markAllRead(userId);
+        if (updated > 0) {
+            unreadCounter.adjustAfterCommit(userId, -updated);
+        }
+        return updated;
+    }
+
+    private static long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    private NotificationResponse mapToResponse(Notification notification) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .type(notification.getType())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .isRead(notification.getIsRead())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,288 @@
+package com.expenseiq.service.impl;
+
+import com.expenseiq.entity.OutboxEvent;
+import com.expenseiq.repository.OutboxEventRepository;
+import com.expenseiq.repository.OutboxSequenceRepository;
+import com.expenseiq.service.OutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Transactional outbox. Events are stored in outbox_events by the transaction that causes
+ * them, so they exist exactly when its data does, and are handed to in-process subscribers
+ * later by {@link com.expenseiq.job.OutboxDispatchJob}. Delivery is at-least-once: an event is
+ * deleted only after every subscriber returned, so subscribers must be idempotent. Events of
+ * the same user are numbered in commit order and delivered in that order, across nodes; a
+ * failing event holds back that user's later events until it succeeds or is dead-lettered.
+ */
+@Slf4j
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+    private record Subscription(Class<?> type, List<Consumer<Object>> handlers) {}
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSequenceRepository outboxSequenceRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter deadLettered;
+
+    @Value("${outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${outbox.retry-backoff}")
+    private long retryBackoffMs;
+
+    @Value("${outbox.max-retry-backoff}")
+    private long maxRetryBackoffMs;
+
+    public OutboxServiceImpl(OutboxEventRepository outboxEventRepository,
+                             OutboxSequenceRepository outboxSequenceRepository,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSequenceRepository = outboxSequenceRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.delivered = Counter.builder("outbox.events")
+                .tag("result", "delivered")
+                .description("Outbox events handed to all subscribers")
+                .register(meterRegistry);
+        this.failed = Counter.builder("outbox.events")
+                .tag("result", "failed")
+                .description("Outbox deliveries that threw and will be retried")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("outbox.events")
+                .tag("result", "dead")
+                .description("Outbox events given up on after the maximum attempts")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Long userId, Object event) {
+        Objects.requireNonNull(userId, "userId");
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Cannot serialize outbox event " + event.getClass().getName(), ex);
+        }
+
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .userId(userId)
+                .eventType(typeName(event.getClass()))
+                .payload(payload)
+                .attempts(0)
+                .deadLetter(false)
+                .build();
+        pendingEvents().add(outboxEvent);
+    }
+
+    // Events published by the current transaction, numbered and stored when it commits
+    private List<OutboxEvent> pendingEvents() {
+        @SuppressWarnings("unchecked")
+        List<OutboxEvent> pending = (List<OutboxEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<OutboxEvent> events = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, events);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // A nested REQUIRES_NEW transaction collects its own events
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(OutboxServiceImpl.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(OutboxServiceImpl.this, events);
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                storePending(events);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OutboxServiceImpl.this);
+            }
+        });
+        return events;
+    }
+
+    /**
+     * Numbers the transaction's events per user and stores them, after everything else is
+     * flushed: the users' sequence rows are the last locks the transaction takes, always in user
+     * order, so it cannot deadlock on them, and they are held until commit, so a user's events
+     * commit in sequence order.
+     */
+    private void storePending(List<OutboxEvent> events) {
+        entityManager.flush();
+        Map<Long, List<OutboxEvent>> eventsByUser = events.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getUserId, TreeMap::new, Collectors.toList()));
+        eventsByUser.forEach((userId, userEvents) -> {
+            long sequence = advanceSequence(userId, userEvents.size()) - userEvents.size();
+            for (OutboxEvent event : userEvents) {
+                event.setUserSequence(++sequence);
+            }
+        });
+        outboxEventRepository.saveAll(events);
+    }
+
+    // Reserves count numbers for the user and returns the last one
+    private long advanceSequence(Long userId, int count) {
+        if (outboxSequenceRepository.advance(userId, count) == 0) {
+            createSequence(userId);
+            if (outboxSequenceRepository.advance(userId, count) == 0) {
+                throw new IllegalStateException("No outbox sequence for user " + userId);
+            }
+        }
+        return outboxSequenceRepository.findLastSequence(userId);
+    }
+
+    /**
+     * First event of the user. Inserted in this transaction under a savepoint: if a concurrent
+     * transaction inserts the row first, this insert waits for it, fails and is rolled back,
+     * and the caller advances that row instead.
+     */
+    private void createSequence(Long userId) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO outbox_sequences (user_id, last_sequence) VALUES (?, 0)")) {
+                insert.setLong(1, userId);
+                insert.executeUpdate();
+                connection.releaseSavepoint(savepoint);
+            } catch (SQLException ex) {
+                connection.rollback(savepoint);
+                log.debug("Outbox sequence of user {} was created concurrently", userId);
+            }
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void subscribe(Class<T> eventType, Consumer<T> handler) {
+        subscriptions.computeIfAbsent(typeName(eventType),
+                        type -> new Subscription(eventType, new CopyOnWriteArrayList<>()))
+                .handlers()
+                .add((Consumer<Object>) handler);
+    }
+
+    /**
+     * Delivers the next batch of due events after the given (user, sequence) cursor, ordered by
+     * user and then sequence. Runs outside any transaction; each subscriber manages its own.
+     */
+    @Override
+    public Batch dispatchBatch(long afterUserId, long afterSequence) {
+        List<OutboxEvent> batch = outboxEventRepository.findDeliverable(
+                afterUserId, afterSequence, LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return new Batch(0, 0, afterUserId, afterSequence);
+        }
+
+        Set<Long> blockedUsers = new HashSet<>();
+        List<Long> deliveredIds = new ArrayList<>();
+
+        for (OutboxEvent event : batch) {
+            if (blockedUsers.contains(event.getUserId())) {
+                // Failed earlier in this batch; keep the user's later events behind it
+                continue;
+            }
+
+            try {
+                deliver(event);
+                deliveredIds.add(event.getId());
+            } catch (Exception ex) {
+                blockedUsers.add(event.getUserId());
+                recordFailure(event, ex);
+            }
+        }
+
+        if (!deliveredIds.isEmpty()) {
+            outboxEventRepository.deleteDelivered(deliveredIds);
+            delivered.increment(deliveredIds.size());
+        }
+        OutboxEvent last = batch.get(batch.size() - 1);
+        return new Batch(batch.size(), deliveredIds.size(), last.getUserId(), last.getUserSequence());
+    }
+
+    private void deliver(OutboxEvent event) throws JsonProcessingException {
+        Subscription subscription = subscriptions.get(event.getEventType());
+        if (subscription == null) {
+            log.debug("No subscriber for outbox event type {}, dropping event {}", event.getEventType(), event.getId());
+            return;
+        }
+
+        Object payload = objectMapper.readValue(event.getPayload(), subscription.type());
+        for (Consumer<Object> handler : subscription.handlers()) {
+            handler.accept(payload);
+        }
+    }
+
+    private void recordFailure(OutboxEvent event, Exception ex) {
+        int attempts = event.getAttempts() + 1;
+        boolean dead = attempts >= maxAttempts;
+        long backoff = Math.min(retryBackoffMs << Math.min(attempts - 1, 20), maxRetryBackoffMs);
+        String error = String.valueOf(ex.getMessage());
+
+        outboxEventRepository.markFailed(
+                event.getId(),
+                LocalDateTime.now().plus(backoff, ChronoUnit.MILLIS),
+                error.length() > 500 ? error.substring(0, 500) : error,
+                dead);
+
+        if (dead) {
+            deadLettered.increment();
+            log.error("Outbox event {} ({}) failed {} times, moved to dead letter",
+                    event.getId(), event.getEventType(), attempts, ex);
+        } else {
+            failed.increment();
+            log.warn("Outbox event {} ({}) failed, retrying in {} ms: {}",
+                    event.getId(), event.getEventType(), backoff, ex.getMessage());
+        }
+    }
+
+    private static String typeName(Class<?> type) {
+        return type.getSimpleName();
+    }
+}
@@ -0,0 +1,126 @@
+package com.expenseiq.service.impl;
+
+import com.expenseiq.entity.RecurringTransaction;
+import com.expenseiq.entity.Transaction;
+import com.expenseiq.enums.Frequency;
+import com.expenseiq.enums.TransactionType;
+import com.expenseiq.event.ExpenseChangedEvent;
+import com.expenseiq.repository.AccountRepository;
+import com.expenseiq.repository.RecurringTransactionRepository;
+import com.expenseiq.repository.TransactionRepository;
+import com.expenseiq.search.TransactionSearchIndex;
+import com.expenseiq.service.OutboxService;
+import com.expenseiq.service.MonthlyTotalService;
+import com.expenseiq.service.RecurringTransactionService;
+import com.expenseiq.stream.BalanceChangedEvent;
+import com.expenseiq.stream.UserEventStream;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class RecurringTransactionServiceImpl implements RecurringTransactionService {
+
+    private final RecurringTransactionRepository recurringTransactionRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final MonthlyTotalService monthlyTotalService;
+    private final TransactionSearchIndex searchIndex;
+    private final EntityManager entityManager;
+    private final OutboxService outboxService;
+    private final UserEventStream userEventStream;
+
+    @Value("${recurring.max-catch-up}")
+    private int maxCatchUp;
+
+    /**
+     * Generates every missed occurrence for a chunk of due schedules. The generated rows, the
+     * advanced nextDate values and the balance changes commit together, so a run that dies
+     * part-way resumes from the schedules' stored nextDate without duplicating anything.
+     */
+    @Override
+    @Transactional
+    public int materializeDue(LocalDate today, Collection<Long> recurringIds) {
+        List<RecurringTransaction> due = recurringTransactionRepository.findDueByIdIn(recurringIds, today);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        List<Transaction> generated = new ArrayList<>();
+        Map<Long, BigDecimal> balanceDeltas = new HashMap<>();
+        Map<Long, Long> accountOwners = new HashMap<>();
+
+        for (RecurringTransaction recurring : due) {
+            LocalDate date = recurring.getNextDate();
+            if (recurring.getStartDate() == null) {
+                recurring.setStartDate(date);
+            }
+            int occurrences = 0;
+            // Catch up on missed periods, capped so a long-dormant daily schedule cannot flood one run
+            while (!date.isAfter(today) && occurrences < maxCatchUp) {
+                generated.add(Transaction.builder()
+                        .user(recurring.getUser())
+                        .account(recurring.getAccount())
+                        .category(recurring.getCategory())
+                        .type(recurring.getType())
+                        .amount(recurring.getAmount())
+                        .description(recurring.getDescription())
+                        .date(date)
+                        .isRecurring(true)
+                        .recurringTransaction(recurring)
+                        .build());
+                date = nextOccurrence(recurring.getStartDate(), date, recurring.getFrequency());
+                occurrences++;
+            }
+            recurring.setNextDate(date);
+
+            BigDecimal amount = recurring.getAmount().multiply(BigDecimal.valueOf(occurrences));
+            BigDecimal delta = recurring.getType() == TransactionType.INCOME ? amount : amount.negate();
+            balanceDeltas.merge(recurring.getAccount().getId(), delta, BigDecimal::add);
+            accountOwners.put(recurring.getAccount().getId(), recurring.getUser().getId());
+        }
+
+        transactionRepository.saveAll(generated);
+        monthlyTotalService.recordTransactions(generated);
+        searchIndex.onTransactionsSaved(generated);
+        ExpenseChangedEvent.of(generated).forEach(event -> outboxService.publish(event.userId(), event));
+
+        // One atomic balance update per account for the whole chunk
+        balanceDeltas.forEach((accountId, delta) -> {
+            accountRepository.adjustBalance(accountId, delta);
+            userEventStream.publishAfterCommit(accountOwners.get(accountId), UserEventStream.EVENT_BALANCE,
+                    new BalanceChangedEvent(accountId, delta));
+        });
+
+        entityManager.flush();
+        entityManager.clear();
+        return generated.size();
+    }
+
+    /**
+     * The occurrence after {@code date}. Months and years are counted from the start date rather
+     * than chained, so a schedule starting on the 31st (or on Feb 29) falls back to the last day
+     * of shorter months (or Feb 28) without staying there afterwards.
+     */
+    static LocalDate nextOccurrence(LocalDate start, LocalDate date, Frequency frequency) {
+        return switch (frequency) {
+            case DAILY -> date.plusDays(1);
+            case WEEKLY -> date.plusWeeks(1);
+            case MONTHLY -> start.plusMonths(YearMonth.from(start).until(YearMonth.from(date), ChronoUnit.MONTHS) + 1);
+            case YEARLY -> start.plusYears(date.getYear() - start.getYear() + 1);
+        };
+    }
+}
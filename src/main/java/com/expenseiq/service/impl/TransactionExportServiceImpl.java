@@ -0,0 +1,112 @@
+package com.expenseiq.service.impl;
+
+import com.expenseiq.entity.Transaction;
+import com.expenseiq.enums.ExportFormat;
+import com.expenseiq.repository.TransactionRepository;
+import com.expenseiq.service.TransactionExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TransactionExportServiceImpl implements TransactionExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+    private static final String CSV_HEADER = "id,date,type,amount,category,account,description,receiptUrl";
+
+    private final TransactionRepository transactionRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTransactions(Long userId, LocalDate startDate, LocalDate endDate,
+                                   ExportFormat format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        JsonGenerator json = objectMapper.getFactory().createGenerator(writer);
+        json.setRootValueSeparator(null);
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        // Rows are read through a forward-only cursor and detached once written,
+        // so memory stays flat regardless of how many transactions are exported
+        try (Stream<Transaction> transactions =
+                     transactionRepository.streamByUserIdAndDateBetween(userId, startDate, endDate)) {
+            Iterator<Transaction> iterator = transactions.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                Transaction transaction = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, transaction);
+                } else {
+                    writeJsonRow(json, transaction);
+                }
+                entityManager.detach(transaction);
+
+                if (++written % FLUSH_INTERVAL == 0) {
+                    json.flush();
+                    writer.flush();
+                }
+            }
+        }
+
+        json.flush();
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, Transaction transaction) throws IOException {
+        writer.write(String.join(",",
+                String.valueOf(transaction.getId()),
+                String.valueOf(transaction.getDate()),
+                transaction.getType().name(),
+                transaction.getAmount().toPlainString(),
+                csv(transaction.getCategory().getName()),
+                csv(transaction.getAccount().getName()),
+                csv(transaction.getDescription()),
+                csv(transaction.getReceiptUrl())));
+        writer.write('\n');
+    }
+
+    private void writeJsonRow(JsonGenerator json, Transaction transaction) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", transaction.getId());
+        json.writeStringField("date", String.valueOf(transaction.getDate()));
+        json.writeStringField("type", transaction.getType().name());
+        json.writeNumberField("amount", transaction.getAmount());
+        json.writeNumberField("categoryId", transaction.getCategory().getId());
+        json.writeStringField("category", transaction.getCategory().getName());
+        json.writeNumberField("accountId", transaction.getAccount().getId());
+        json.writeStringField("account", transaction.getAccount().getName());
+        json.writeStringField("description", transaction.getDescription());
+        json.writeStringField("receiptUrl", transaction.getReceiptUrl());
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,183 @@
+package com.expenseiq.service.impl;
+
+import com.expenseiq.dto.request.TransactionRequest;
+import com.expenseiq.dto.response.AccountResponse;
+import com.expenseiq.dto.response.BulkImportResponse;
+import com.expenseiq.entity.Account;
+import com.expenseiq.entity.Category;
+import com.expenseiq.entity.Transaction;
+import com.expenseiq.entity.User;
+import com.expenseiq.enums.TransactionType;
+import com.expenseiq.exception.BadRequestException;
+import com.expenseiq.exception.ResourceNotFoundException;
+import com.expenseiq.event.ExpenseChangedEvent;
+import com.expenseiq.repository.AccountRepository;
+import com.expenseiq.repository.CategoryRepository;
+import com.expenseiq.repository.TransactionRepository;
+import com.expenseiq.repository.UserRepository;
+import com.expenseiq.search.TransactionSearchIndex;
+import com.expenseiq.service.OutboxService;
+import com.expenseiq.service.MonthlyTotalService;
+import com.expenseiq.service.TransactionImportService;
+import com.expenseiq.stream.BalanceChangedEvent;
+import com.expenseiq.stream.UserEventStream;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TransactionImportServiceImpl implements TransactionImportService {
+
+    private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final AccountRepository accountRepository;
+    private final MonthlyTotalService monthlyTotalService;
+    private final TransactionSearchIndex searchIndex;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final OutboxService outboxService;
+    private final UserEventStream userEventStream;
+
+    @Value("${transaction-import.chunk-size}")
+    private int chunkSize;
+
+    @Value("${transaction-import.max-rows}")
+    private int maxRows;
+
+    @Override
+    @Transactional
+    public BulkImportResponse importTransactions(Long userId, List<TransactionRequest> requests) {
+        return importRows(userId, requests.iterator());
+    }
+
+    @Override
+    @Transactional
+    public BulkImportResponse importCsv(Long userId, InputStream csv) {
+        try (CsvTransactionReader reader = new CsvTransactionReader(csv)) {
+            return importRows(userId, reader);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private BulkImportResponse importRows(Long userId, Iterator<TransactionRequest> rows) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        // Resolve the user's categories and accounts once for the whole import
+        Map<Long, Category> categories = categoryRepository.findByUserIdOrIsDefaultTrue(userId).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        Map<Long, Account> accounts = accountRepository.findByUserId(userId).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        Map<Long, BigDecimal> balanceDeltas = new HashMap<>();
+        List<Transaction> chunk = new ArrayList<>(chunkSize);
+        Set<ExpenseChangedEvent> expenseChanges = new HashSet<>();
+        int row = 0;
+
+        while (rows.hasNext()) {
+            TransactionRequest request = rows.next();
+            row++;
+            if (row > maxRows) {
+                throw new BadRequestException("Import exceeds the limit of " + maxRows + " transactions");
+            }
+            validate(request, row);
+
+            Category category = categories.get(request.getCategoryId());
+            if (category == null) {
+                throw new BadRequestException("Row " + row + ": category not found");
+            }
+            if (!category.getType().equals(request.getType())) {
+                throw new BadRequestException("Row " + row + ": category type does not match transaction type");
+            }
+            Account account = accounts.get(request.getAccountId());
+            if (account == null) {
+                throw new BadRequestException("Row " + row + ": account not found");
+            }
+
+            chunk.add(Transaction.builder()
+                    .user(user)
+                    .account(account)
+                    .category(category)
+                    .type(request.getType())
+                    .amount(request.getAmount())
+                    .description(request.getDescription())
+                    .date(request.getDate())
+                    .receiptUrl(request.getReceiptUrl())
+                    .isRecurring(Boolean.TRUE.equals(request.getIsRecurring()))
+                    .build());
+
+            BigDecimal delta = request.getType() == TransactionType.INCOME
+                    ? request.getAmount() : request.getAmount().negate();
+            balanceDeltas.merge(account.getId(), delta, BigDecimal::add);
+
+            if (chunk.size() >= chunkSize) {
+                writeChunk(chunk, expenseChanges);
+            }
+        }
+        writeChunk(chunk, expenseChanges);
+
+        // One atomic balance update per account for the whole import
+        balanceDeltas.forEach((accountId, delta) -> {
+            accountRepository.adjustBalance(accountId, delta);
+            userEventStream.publishAfterCommit(userId, UserEventStream.EVENT_BALANCE,
+                    new BalanceChangedEvent(accountId, delta));
+        });
+        // Budget alerts run once per affected period after the import commits
+        expenseChanges.forEach(event -> outboxService.publish(userId, event));
+        List<AccountResponse> updatedAccounts = accountRepository.findAllById(balanceDeltas.keySet()).stream()
+                .map(this::mapAccountToResponse)
+                .collect(Collectors.toList());
+
+        return BulkImportResponse.builder()
+                .imported(row)
+                .accounts(updatedAccounts)
+                .build();
+    }
+
+    private void writeChunk(List<Transaction> chunk, Set<ExpenseChangedEvent> expenseChanges) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        transactionRepository.saveAll(chunk);
+        monthlyTotalService.recordTransactions(chunk);
+        searchIndex.onTransactionsSaved(chunk);
+        expenseChanges.addAll(ExpenseChangedEvent.of(chunk));
+
+        // Send the batched inserts and release the chunk from the persistence context
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    private void validate(TransactionRequest request, int row) {
+        Set<ConstraintViolation<TransactionRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException("Row " + row + ": " + violations.iterator().next().getMessage());
+        }
+    }
+
+    private AccountResponse mapAccountToResponse(Account account) {
+        return AccountResponse.builder()
+                .id(account.getId())
+                .name(account.getName())
+                .type(account.getType())
+                .balance(account.getBalance())
+                .creditLimit(account.getCreditLimit())
+                .build();
+    }
+}
@@ -1,26 +1,38 @@
 package com.expenseiq.service.impl;
 
+import com.expenseiq.dto.request.TransactionCursor;
 import com.expenseiq.dto.request.TransactionRequest;
 import com.expenseiq.dto.response.AccountResponse;
 import com.expenseiq.dto.response.CategoryResponse;
+import com.expenseiq.dto.response.CursorPageResponse;
 import com.expenseiq.dto.response.TransactionResponse;
 import com.expenseiq.entity.Account;
 import com.expenseiq.entity.Category;
 import com.expenseiq.entity.Transaction;
 import com.expenseiq.entity.User;
 import com.expenseiq.enums.TransactionType;
+import com.expenseiq.event.ExpenseChangedEvent;
 import com.expenseiq.exception.BadRequestException;
 import com.expenseiq.exception.ResourceNotFoundException;
 import com.expenseiq.repository.AccountRepository;
 import com.expenseiq.repository.CategoryRepository;
 import com.expenseiq.repository.TransactionRepository;
 import com.expenseiq.repository.UserRepository;
+import com.expenseiq.repository.specification.TransactionSpecifications;
+import com.expenseiq.search.TransactionSearchIndex;
+import com.expenseiq.service.OutboxService;
+import com.expenseiq.service.MonthlyTotalService;
 import com.expenseiq.service.TransactionService;
+import com.expenseiq.stream.BalanceChangedEvent;
+import com.expenseiq.stream.UserEventStream;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +41,8 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,6 +53,11 @@ public class TransactionServiceImpl implements TransactionService {
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final AccountRepository accountRepository;
+    private final MonthlyTotalService monthlyTotalService;
+    private final TransactionSearchIndex searchIndex;
+    private final EntityManager entityManager;
+    private final OutboxService outboxService;
+    private final UserEventStream userEventStream;
 
     @Override
     @Transactional
@@ -65,9 +84,13 @@ public class TransactionServiceImpl implements TransactionService {
                 .build();
 
         transaction = transactionRepository.save(transaction);
+        monthlyTotalService.recordTransaction(transaction);
+        searchIndex.onTransactionSaved(transaction);
+        publishExpenseChanged(transaction);
 
         // Update account balance
         updateAccountBalance(account, request.getType(), request.getAmount());
+        entityManager.refresh(account);
 
         return mapToResponse(transaction);
     }
@@ -88,6 +111,8 @@ public class TransactionServiceImpl implements TransactionService {
         updateAccountBalance(transaction.getAccount(), 
                 transaction.getType().equals(TransactionType.INCOME) ? TransactionType.EXPENSE : TransactionType.INCOME,
                 transaction.getAmount());
+        monthlyTotalService.reverseTransaction(transaction);
+        publishExpenseChanged(transaction);
 
         // Update transaction
         transaction.setAccount(account);
@@ -100,9 +125,13 @@ public class TransactionServiceImpl implements TransactionService {
         transaction.setIsRecurring(request.getIsRecurring());
 
         transaction = transactionRepository.save(transaction);
+        monthlyTotalService.recordTransaction(transaction);
+        searchIndex.onTransactionSaved(transaction);
+        publishExpenseChanged(transaction);
 
         // Apply new account balance
         updateAccountBalance(account, request.getType(), request.getAmount());
+        entityManager.refresh(account);
 
         return mapToResponse(transaction);
     }
@@ -116,6 +145,9 @@ public class TransactionServiceImpl implements TransactionService {
         updateAccountBalance(transaction.getAccount(),
                 transaction.getType().equals(TransactionType.INCOME) ? TransactionType.EXPENSE : TransactionType.INCOME,
                 transaction.getAmount());
+        monthlyTotalService.reverseTransaction(transaction);
+        searchIndex.onTransactionDeleted(userId, id);
+        publishExpenseChanged(transaction);
 
         transactionRepository.delete(transaction);
     }
@@ -132,6 +164,32 @@ public class TransactionServiceImpl implements TransactionService {
         return transactions.map(this::mapToResponse);
     }
 
+    @Override
+    public CursorPageResponse<TransactionResponse> getTransactionsByCursor(Long userId, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+
+        Slice<Transaction> slice;
+        if (StringUtils.hasText(cursor)) {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            slice = transactionRepository.findSliceByUserIdAfter(
+                    userId, position.date(), position.createdAt(), position.id(), pageable);
+        } else {
+            slice = transactionRepository.findFirstSliceByUserId(userId, pageable);
+        }
+
+        List<Transaction> transactions = slice.getContent();
+        String nextCursor = slice.hasNext() && !transactions.isEmpty()
+                ? TransactionCursor.of(transactions.get(transactions.size() - 1)).encode()
+                : null;
+
+        return CursorPageResponse.<TransactionResponse>builder()
+                .content(transactions.stream().map(this::mapToResponse).collect(Collectors.toList()))
+                .size(transactions.size())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Override
     public Page<TransactionResponse> getTransactionsByFilters(
             Long userId,
@@ -143,20 +201,18 @@ public class TransactionServiceImpl implements TransactionService {
             String description,
             Pageable pageable) {
         
-        Page<Transaction> transactions = transactionRepository.findByFilters(
-                userId, type, categoryId, accountId, startDate, endDate, description, pageable
+        Page<Transaction> transactions = transactionRepository.findAll(
+                TransactionSpecifications.withFilters(
+                        userId, type, categoryId, accountId, startDate, endDate, description),
+                pageable
         );
         return transactions.map(this::mapToResponse);
     }
 
     @Override
     public Map<String, BigDecimal> getTransactionSummary(Long userId, LocalDate startDate, LocalDate endDate) {
-        BigDecimal income = transactionRepository.sumByUserIdAndTypeAndDateBetween(
-                userId, TransactionType.INCOME, startDate, endDate
-        );
-        BigDecimal expense = transactionRepository.sumByUserIdAndTypeAndDateBetween(
-                userId, TransactionType.EXPENSE, startDate, endDate
-        );
+        BigDecimal income = monthlyTotalService.sumByType(userId, TransactionType.INCOME, startDate, endDate);
+        BigDecimal expense = monthlyTotalService.sumByType(userId, TransactionType.EXPENSE, startDate, endDate);
 
         Map<String, BigDecimal> summary = new HashMap<>();
         summary.put("income", income != null ? income : BigDecimal.ZERO);
@@ -176,6 +232,25 @@ public class TransactionServiceImpl implements TransactionService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<TransactionResponse> searchTransactions(Long userId, String query, int limit) {
+        List<Long> rankedIds = searchIndex.search(userId, query, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Transaction> transactions = transactionRepository.findByUserIdAndIdIn(userId, rankedIds)
+                .stream()
+                .collect(Collectors.toMap(Transaction::getId, Function.identity()));
+
+        // Preserve the index ranking
+        return rankedIds.stream()
+                .map(transactions::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
     // Helper methods
     private User getUserOrThrow(Long userId) {
         return userRepository.findById(userId)
@@ -198,14 +273,19 @@ public class TransactionServiceImpl implements TransactionService {
                 .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
     }
 
-    @Transactional
     private void updateAccountBalance(Account account, TransactionType type, BigDecimal amount) {
-        if (type == TransactionType.INCOME) {
-            account.setBalance(account.getBalance().add(amount));
-        } else {
-            account.setBalance(account.getBalance().subtract(amount));
+        // Applied as a single UPDATE so concurrent writes to the same account never lose a delta
+        BigDecimal delta = type == TransactionType.INCOME ? amount : amount.negate();
+        accountRepository.adjustBalance(account.getId(), delta);
+        userEventStream.publishAfterCommit(account.getUser().getId(), UserEventStream.EVENT_BALANCE,
+                new BalanceChangedEvent(account.getId(), delta));
+    }
+
+    private void publishExpenseChanged(Transaction transaction) {
+        // Budget alerts are re-evaluated for the affected period once this transaction commits
+        if (transaction.getType() == TransactionType.EXPENSE) {
+            outboxService.publish(transaction.getUser().getId(), ExpenseChangedEvent.of(transaction));
         }
-        accountRepository.save(account);
     }
 
     private TransactionResponse mapToResponse(Transaction transaction) {
@@ -0,0 +1,6 @@
+package com.expenseiq.stream;
+
+import java.math.BigDecimal;
+
+public record BalanceChangedEvent(Long accountId, BigDecimal delta) {
+}
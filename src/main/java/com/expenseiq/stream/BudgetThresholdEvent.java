@@ -0,0 +1,5 @@
+package com.expenseiq.stream;
+
+public record BudgetThresholdEvent(Long budgetId, Long categoryId, int month, int year,
+                                   int threshold, int percentUsed) {
+}
@@ -0,0 +1,108 @@
+package com.expenseiq.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open SSE connection with a bounded send buffer. Producers never block: when the buffer
+ * is full the oldest event is dropped, and the client is told how many it missed so it can
+ * re-fetch. At most one drain runs at a time, which keeps events in order.
+ */
+final class StreamConnection {
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Deque<SseEmitter.SseEventBuilder> buffer = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private long dropped;
+
+    StreamConnection(Long userId, SseEmitter emitter, int capacity) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /** Returns true only for the call that actually closed the connection. */
+    boolean close() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        synchronized (buffer) {
+            buffer.clear();
+        }
+        return true;
+    }
+
+    /** Buffers an event; returns true if an older event had to be dropped to make room. */
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        synchronized (buffer) {
+            if (closed.get()) {
+                return false;
+            }
+            boolean overflow = buffer.size() >= capacity;
+            if (overflow) {
+                buffer.pollFirst();
+                dropped++;
+            }
+            buffer.addLast(event);
+            return overflow;
+        }
+    }
+
+    boolean isIdle() {
+        synchronized (buffer) {
+            return buffer.isEmpty();
+        }
+    }
+
+    /** Claims the drain; the caller must then run {@link #drain()} or {@link #abortDrain()}. */
+    boolean tryStartDrain() {
+        return !closed.get() && draining.compareAndSet(false, true);
+    }
+
+    void abortDrain() {
+        draining.set(false);
+    }
+
+    void drain() throws IOException {
+        while (true) {
+            SseEmitter.SseEventBuilder next;
+            long missed;
+            synchronized (buffer) {
+                next = buffer.pollFirst();
+                missed = dropped;
+                dropped = 0;
+                if (next == null && missed == 0) {
+                    // Released under the buffer lock, so a concurrent offer either sees the
+                    // drain still running or is able to claim a new one
+                    draining.set(false);
+                    return;
+                }
+            }
+            if (missed > 0) {
+                emitter.send(SseEmitter.event().name(UserEventStream.EVENT_DROPPED).data(missed));
+            }
+            if (next != null) {
+                emitter.send(next);
+            }
+        }
+    }
+}
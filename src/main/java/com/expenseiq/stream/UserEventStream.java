@@ -0,0 +1,193 @@
+package com.expenseiq.stream;
+
+import com.expenseiq.cluster.ClusterEventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-user fan-out of server-sent events. Each user may hold a few open connections (tabs,
+ * devices); an event for the user is buffered on every one of them and written out by the
+ * stream executor, so publishers on the request or job path never wait on a slow client.
+ * Events are also broadcast to the other nodes, which deliver them to the user's connections
+ * there. That broadcast is best-effort, so clients still poll the unread count as a fallback.
+ */
+@Slf4j
+@Component
+public class UserEventStream {
+
+    public static final String EVENT_BALANCE = "balance";
+    public static final String EVENT_NOTIFICATION = "notification";
+    public static final String EVENT_UNREAD_COUNT = "unread-count";
+    public static final String EVENT_BUDGET_THRESHOLD = "budget-threshold";
+    static final String EVENT_DROPPED = "dropped";
+    static final String TOPIC_EVENTS = "stream-events";
+
+    private record RemoteEvent(Long userId, String name, Object data) {}
+
+    private final Map<Long, Deque<StreamConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AsyncTaskExecutor streamExecutor;
+    private final ClusterEventBus clusterEventBus;
+    private final Counter droppedEvents;
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final int maxConnectionsPerUser;
+
+    public UserEventStream(@Qualifier("streamExecutor") AsyncTaskExecutor streamExecutor,
+                           ClusterEventBus clusterEventBus,
+                           @Value("${stream.timeout}") long timeoutMs,
+                           @Value("${stream.buffer-size}") int bufferSize,
+                           @Value("${stream.max-connections-per-user}") int maxConnectionsPerUser,
+                           MeterRegistry meterRegistry) {
+        this.streamExecutor = streamExecutor;
+        this.clusterEventBus = clusterEventBus;
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.droppedEvents = Counter.builder("stream.events.dropped")
+                .description("Events discarded because a client's buffer was full")
+                .register(meterRegistry);
+        meterRegistry.gauge("stream.connections", openConnections);
+        clusterEventBus.subscribe(TOPIC_EVENTS, RemoteEvent.class,
+                event -> publishLocal(event.userId(), event.name(), event.data()));
+    }
+
+    /** Opens a connection whose first event is the given snapshot, ahead of anything published later. */
+    public SseEmitter connect(Long userId, String snapshotName, Object snapshotData) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        StreamConnection connection = new StreamConnection(userId, emitter, bufferSize);
+        connection.offer(SseEmitter.event().name(snapshotName).data(snapshotData, MediaType.APPLICATION_JSON));
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(ex -> remove(connection));
+
+        Deque<StreamConnection> userConnections = connections.compute(userId, (id, existing) -> {
+            Deque<StreamConnection> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.addLast(connection);
+            return deque;
+        });
+        openConnections.incrementAndGet();
+
+        // Oldest connections give way when a user opens too many
+        while (userConnections.size() > maxConnectionsPerUser) {
+            StreamConnection oldest = userConnections.pollFirst();
+            if (oldest == null) {
+                break;
+            }
+            close(oldest);
+        }
+        scheduleDrain(connection);
+        return emitter;
+    }
+
+    public boolean isConnected(Long userId) {
+        Deque<StreamConnection> userConnections = connections.get(userId);
+        return userConnections != null && !userConnections.isEmpty();
+    }
+
+    /** Delivers the event to the user's connections on every node. */
+    public void publish(Long userId, String name, Object data) {
+        publishLocal(userId, name, data);
+        clusterEventBus.publish(TOPIC_EVENTS, new RemoteEvent(userId, name, data));
+    }
+
+    /** Delivers the event to the user's connections on this node only. */
+    public void publishLocal(Long userId, String name, Object data) {
+        Deque<StreamConnection> userConnections = connections.get(userId);
+        if (userConnections == null || userConnections.isEmpty()) {
+            return;
+        }
+        for (StreamConnection connection : userConnections) {
+            if (connection.offer(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON))) {
+                droppedEvents.increment();
+            }
+            scheduleDrain(connection);
+        }
+    }
+
+    // Events describe committed state only; rolled back writes publish nothing
+    public void publishAfterCommit(Long userId, String name, Object data) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(userId, name, data);
+                }
+            });
+        } else {
+            publish(userId, name, data);
+        }
+    }
+
+    /**
+     * Keeps idle connections alive through proxies and surfaces dead ones, whose failed write
+     * removes them. Also restarts drains that the executor rejected under load.
+     */
+    @Scheduled(fixedRateString = "${stream.heartbeat-interval}")
+    public void heartbeat() {
+        for (Deque<StreamConnection> userConnections : connections.values()) {
+            for (StreamConnection connection : userConnections) {
+                if (connection.isIdle()) {
+                    connection.offer(SseEmitter.event().comment("heartbeat"));
+                }
+                scheduleDrain(connection);
+            }
+        }
+    }
+
+    private void scheduleDrain(StreamConnection connection) {
+        if (!connection.tryStartDrain()) {
+            return;
+        }
+        try {
+            streamExecutor.execute(() -> {
+                try {
+                    connection.drain();
+                } catch (Exception ex) {
+                    log.debug("Closing event stream for user {}: {}", connection.userId(), ex.getMessage());
+                    close(connection);
+                }
+            });
+        } catch (TaskRejectedException ex) {
+            // Events stay buffered; the next publish or heartbeat tries again
+            connection.abortDrain();
+        }
+    }
+
+    private void close(StreamConnection connection) {
+        remove(connection);
+        try {
+            connection.emitter().complete();
+        } catch (Exception ignored) {
+            // Already completed or the client is gone
+        }
+    }
+
+    private void remove(StreamConnection connection) {
+        if (!connection.close()) {
+            return;
+        }
+        openConnections.decrementAndGet();
+        connections.computeIfPresent(connection.userId(), (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+}
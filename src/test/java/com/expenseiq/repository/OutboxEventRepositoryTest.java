@@ -0,0 +1,84 @@
+package com.expenseiq.repository;
+
+import com.expenseiq.entity.OutboxEvent;
+import com.expenseiq.support.AbstractRepositoryTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxEventRepositoryTest extends AbstractRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void backingOffEventHoldsBackOnlyItsOwnUsersLaterEvents() {
+        OutboxEvent blocked = save(1L, 1, NOW.plusMinutes(5), false);
+        OutboxEvent behindBlocked = save(1L, 2, null, false);
+        OutboxEvent otherUser = save(2L, 1, null, false);
+        OutboxEvent retryDue = save(3L, 1, NOW.minusSeconds(1), false);
+        OutboxEvent afterRetryDue = save(3L, 2, null, false);
+
+        assertThat(ids(deliverable(0, 0, 10)))
+                .containsExactly(otherUser.getId(), retryDue.getId(), afterRetryDue.getId())
+                .doesNotContain(blocked.getId(), behindBlocked.getId());
+    }
+
+    @Test
+    void eventsComeInSequenceOrderWhateverTheirIds() {
+        // Ids are pooled per node, so a later event of the user can have the lower id
+        OutboxEvent second = save(1L, 2, null, false);
+        OutboxEvent first = save(1L, 1, NOW.plusMinutes(5), false);
+
+        assertThat(deliverable(0, 0, 10)).isEmpty();
+
+        outboxEventRepository.markFailed(first.getId(), NOW.minusSeconds(1), "retry due", false);
+        assertThat(ids(deliverable(0, 0, 10))).containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    void deadLetteredEventsAreSkippedAndNoLongerHoldBackTheUser() {
+        save(1L, 1, NOW.plusMinutes(5), true);
+        OutboxEvent next = save(1L, 2, null, false);
+
+        assertThat(ids(deliverable(0, 0, 10))).containsExactly(next.getId());
+    }
+
+    @Test
+    void pagesContinueAfterTheCursor() {
+        OutboxEvent first = save(1L, 1, null, false);
+        OutboxEvent second = save(1L, 2, null, false);
+        OutboxEvent third = save(2L, 1, null, false);
+
+        assertThat(ids(deliverable(0, 0, 2))).containsExactly(first.getId(), second.getId());
+        assertThat(ids(deliverable(1L, 2, 2))).containsExactly(third.getId());
+        assertThat(ids(deliverable(1L, 1, 2))).containsExactly(second.getId(), third.getId());
+    }
+
+    private List<OutboxEvent> deliverable(long afterUserId, long afterSequence, int size) {
+        return outboxEventRepository.findDeliverable(afterUserId, afterSequence, NOW, PageRequest.of(0, size));
+    }
+
+    private OutboxEvent save(Long userId, long sequence, LocalDateTime nextAttemptAt, boolean deadLetter) {
+        return outboxEventRepository.saveAndFlush(OutboxEvent.builder()
+                .userId(userId)
+                .userSequence(sequence)
+                .eventType("TestEvent")
+                .payload("{}")
+                .attempts(nextAttemptAt != null ? 1 : 0)
+                .nextAttemptAt(nextAttemptAt)
+                .deadLetter(deadLetter)
+                .build());
+    }
+
+    private static List<Long> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::getId).toList();
+    }
+}
@@ -0,0 +1,161 @@
+package com.expenseiq.repository;
+
+import com.expenseiq.entity.Transaction;
+import com.expenseiq.enums.TransactionType;
+import com.expenseiq.repository.specification.TransactionSpecifications;
+import com.expenseiq.support.AbstractRepositoryTest;
+import com.expenseiq.support.TransactionFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.expenseiq.support.TransactionFixtures.accountId;
+import static com.expenseiq.support.TransactionFixtures.categoryId;
+import static com.expenseiq.support.TransactionFixtures.userId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Times the specification-built filter queries against the catch-all JPQL they replaced
+ * ({@code :x IS NULL OR ...} for every criterion) on a 1M-row transactions table.
+ * Both must return the same page; the timings are logged per filter combination.
+ * Run with {@code mvn test -Pbenchmark}; the context (and its database) is discarded afterwards.
+ */
+@Tag("benchmark")
+@DirtiesContext
+@TestPropertySource(properties = "logging.level.com.expenseiq.repository.TransactionFilterBenchmarkTest=INFO")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionFilterBenchmarkTest extends AbstractRepositoryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionFilterBenchmarkTest.class);
+
+    private static final int USERS = 200;
+    private static final int TRANSACTIONS_PER_USER = 5_000;
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 100;
+
+    private static final String CATCH_ALL_WHERE = "WHERE t.user.id = :userId " +
+            "AND (:type IS NULL OR t.type = :type) " +
+            "AND (:categoryId IS NULL OR t.category.id = :categoryId) " +
+            "AND (:accountId IS NULL OR t.account.id = :accountId) " +
+            "AND (:startDate IS NULL OR t.date >= :startDate) " +
+            "AND (:endDate IS NULL OR t.date <= :endDate) " +
+            "AND (:description IS NULL OR LOWER(t.description) LIKE LOWER(CONCAT('%', :description, '%')))";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    record Filter(String name, TransactionType type, Long categoryId, Long accountId,
+                  LocalDate startDate, LocalDate endDate, String description) {
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    @BeforeAll
+    void loadTransactions() {
+        TransactionFixtures.load(jdbcTemplate, USERS, TRANSACTIONS_PER_USER);
+    }
+
+    List<Filter> filters() {
+        LocalDate start = LocalDate.of(2023, 1, 1);
+        LocalDate end = LocalDate.of(2023, 3, 31);
+        return List.of(
+                new Filter("user only", null, null, null, null, null, null),
+                new Filter("date range", null, null, null, start, end, null),
+                new Filter("category + date range", null, categoryId(42, 3), null, start, end, null),
+                new Filter("account + date range", null, null, accountId(42, 1), start, end, null),
+                new Filter("type + description", TransactionType.EXPENSE, null, null, null, null, "payment 12"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filters")
+    void specificationQueryReturnsSamePageAsCatchAllQuery(Filter filter) {
+        Long userId = userId(42);
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "date", "id"));
+
+        Supplier<Page<Transaction>> specification = () -> transactionRepository.findAll(
+                TransactionSpecifications.withFilters(userId, filter.type(), filter.categoryId(),
+                        filter.accountId(), filter.startDate(), filter.endDate(), filter.description()),
+                pageable);
+        Supplier<Page<Transaction>> catchAll = () -> findWithCatchAll(userId, filter, pageable);
+
+        Page<Transaction> expected = catchAll.get();
+        Page<Transaction> actual = specification.get();
+        assertThat(actual.getTotalElements()).isEqualTo(expected.getTotalElements());
+        assertThat(actual.map(Transaction::getId).getContent())
+                .isEqualTo(expected.map(Transaction::getId).getContent());
+
+        long catchAllMicros = medianMicros(catchAll);
+        long specificationMicros = medianMicros(specification);
+        log.info("{}: matches={} catch-all={} us specification={} us",
+                filter, expected.getTotalElements(), catchAllMicros, specificationMicros);
+    }
+
+    private Page<Transaction> findWithCatchAll(Long userId, Filter filter, Pageable pageable) {
+        TypedQuery<Transaction> select = bind(entityManager.createQuery(
+                "SELECT t FROM Transaction t JOIN FETCH t.category JOIN FETCH t.account " + CATCH_ALL_WHERE +
+                        " ORDER BY t.date DESC, t.id DESC", Transaction.class), userId, filter);
+        TypedQuery<Long> count = bind(entityManager.createQuery(
+                "SELECT COUNT(t) FROM Transaction t " + CATCH_ALL_WHERE, Long.class), userId, filter);
+
+        List<Transaction> content = select
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return new PageImpl<>(content, pageable, count.getSingleResult());
+    }
+
+    private <T> TypedQuery<T> bind(TypedQuery<T> query, Long userId, Filter filter) {
+        return query.setParameter("userId", userId)
+                .setParameter("type", filter.type())
+                .setParameter("categoryId", filter.categoryId())
+                .setParameter("accountId", filter.accountId())
+                .setParameter("startDate", filter.startDate())
+                .setParameter("endDate", filter.endDate())
+                .setParameter("description", filter.description());
+    }
+
+    private long medianMicros(Supplier<?> query) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            query.get();
+            entityManager.clear();
+        }
+        long[] samples = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = (System.nanoTime() - start) / 1_000;
+            entityManager.clear();
+        }
+        Arrays.sort(samples);
+        return samples[MEASURED_RUNS / 2];
+    }
+}
@@ -0,0 +1,131 @@
+package com.expenseiq.repository;
+
+import com.expenseiq.enums.TransactionType;
+import com.expenseiq.repository.specification.TransactionSpecifications;
+import com.expenseiq.support.AbstractRepositoryTest;
+import com.expenseiq.support.SqlCapture;
+import com.expenseiq.support.TransactionFixtures;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.expenseiq.support.TransactionFixtures.accountId;
+import static com.expenseiq.support.TransactionFixtures.categoryId;
+import static com.expenseiq.support.TransactionFixtures.userId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the indexes behind user-scoped date-range reads: each test captures the SQL a
+ * repository method really issues and explains it, and the plan must look the rows up
+ * through the matching index with the date bounds as index conditions. Dropping or reordering
+ * an index column, or a query that stops bounding the date column directly, fails here.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionQueryPlanTest extends AbstractRepositoryTest {
+
+    // H2 prints the index it reads and the conditions it seeks on as /* PUBLIC.INDEX: ... */
+    private static final Pattern INDEX_LOOKUP = Pattern.compile("/\\* PUBLIC\\.(\\w+): ([^*]*)\\*/");
+
+    private static final LocalDate YEAR_START = LocalDate.of(2023, 1, 1);
+    private static final LocalDate YEAR_END = LocalDate.of(2023, 12, 31);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MonthlyCategoryTotalRepository monthlyCategoryTotalRepository;
+
+    @BeforeAll
+    void loadTransactions() {
+        TransactionFixtures.load(jdbcTemplate, 20, 500);
+    }
+
+    @AfterAll
+    void removeTransactions() {
+        TransactionFixtures.clear(jdbcTemplate);
+    }
+
+    @Test
+    void dateRangeSumSeeksUserDateIndex() {
+        List<IndexLookup> lookups = explain(() -> transactionRepository.sumByUserIdAndTypeAndDateBetween(
+                userId(3), TransactionType.EXPENSE, LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 31)));
+
+        assertThat(lookups).anySatisfy(lookup -> {
+            assertThat(lookup.index()).isEqualTo("IDX_TRANSACTIONS_USER_DATE");
+            assertThat(lookup.conditions()).contains("USER_ID = ", "DATE >= ", "DATE <= ");
+        });
+    }
+
+    @Test
+    void categoryFilterSeeksUserCategoryDateIndex() {
+        List<IndexLookup> lookups = explain(() -> transactionRepository.findAll(
+                TransactionSpecifications.withFilters(userId(3), null, categoryId(3, 2), null, YEAR_START, YEAR_END, null),
+                PageRequest.of(0, 1000)));
+
+        assertThat(lookups).anySatisfy(lookup -> {
+            assertThat(lookup.index()).isEqualTo("IDX_TRANSACTIONS_USER_CATEGORY_DATE");
+            assertThat(lookup.conditions()).contains("USER_ID = ", "CATEGORY_ID = ", "DATE >= ", "DATE <= ");
+        });
+    }
+
+    @Test
+    void accountFilterSeeksUserAccountDateIndex() {
+        List<IndexLookup> lookups = explain(() -> transactionRepository.findAll(
+                TransactionSpecifications.withFilters(userId(3), null, null, accountId(3, 1), YEAR_START, YEAR_END, null),
+                PageRequest.of(0, 1000)));
+
+        assertThat(lookups).anySatisfy(lookup -> {
+            assertThat(lookup.index()).isEqualTo("IDX_TRANSACTIONS_USER_ACCOUNT_DATE");
+            assertThat(lookup.conditions()).contains("USER_ID = ", "ACCOUNT_ID = ", "DATE >= ", "DATE <= ");
+        });
+    }
+
+    @Test
+    void keysetPageSeeksByUser() {
+        // H2 cannot walk an index backwards for the ORDER BY, so it only has to seek on the user
+        List<IndexLookup> lookups = explain(() -> transactionRepository.findSliceByUserIdAfter(
+                userId(3), LocalDate.of(2023, 6, 1), LocalDateTime.of(2023, 6, 1, 12, 0), 42L, PageRequest.of(0, 20)));
+
+        assertThat(lookups).anySatisfy(lookup -> assertThat(lookup.conditions()).startsWith("USER_ID = "));
+    }
+
+    @Test
+    void budgetSpentSeeksMonthlyRollup() {
+        // Budgets read the month's spending from the rollup, one row per user, category and month
+        List<IndexLookup> lookups = explain(() -> monthlyCategoryTotalRepository.findCategoryTotal(
+                userId(3), categoryId(3, 2), TransactionType.EXPENSE, 2023, 3));
+
+        assertThat(lookups).anySatisfy(lookup -> assertThat(lookup.conditions())
+                .contains("USER_ID = ", "CATEGORY_ID = ", "TYPE = ", "\"YEAR\" = ", "\"MONTH\" = "));
+    }
+
+    private List<IndexLookup> explain(Supplier<?> query) {
+        String sql = SqlCapture.capture(query);
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+        List<IndexLookup> lookups = new ArrayList<>();
+        Matcher matcher = INDEX_LOOKUP.matcher(plan);
+        while (matcher.find()) {
+            lookups.add(new IndexLookup(matcher.group(1), matcher.group(2).replaceAll("\\s+", " ").trim()));
+        }
+        assertThat(lookups).as("index lookups in plan%n%s", plan).isNotEmpty();
+        return lookups;
+    }
+
+    private record IndexLookup(String index, String conditions) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.expenseiq.security;
+
+import com.expenseiq.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-request JWT verification: the provider's prebuilt key and parser, verifying once,
+ * against the previous flow that derived the key and built a parser for validateToken and
+ * again for getEmailFromToken. Run with {@code mvn test -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParsingBenchmarkTest {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256-signing";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtRefreshExpirationMs", 86_400_000L);
+        jwtTokenProvider.init();
+        token = jwtTokenProvider.generateTokenFromEmail("user@example.com", 42L, Role.USER);
+    }
+
+    @Benchmark
+    public Claims prebuiltParser() {
+        return jwtTokenProvider.parseAndValidate(token).orElseThrow();
+    }
+
+    @Benchmark
+    public String parserPerCall() {
+        parseWithNewParser(token);
+        return parseWithNewParser(token).getSubject();
+    }
+
+    private static Claims parseWithNewParser(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws Exception {
+        assertThat(new Runner(new OptionsBuilder()
+                .include(JwtParsingBenchmarkTest.class.getSimpleName())
+                .build())
+                .run())
+                .isNotEmpty();
+    }
+}
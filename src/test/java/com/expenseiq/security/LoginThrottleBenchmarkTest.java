@@ -0,0 +1,87 @@
+package com.expenseiq.security;
+
+import com.expenseiq.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cost of a throttled login attempt against the password checks it avoids, at the
+ * configured minimum encoder parameters (BCrypt strength 10, Argon2 19 MiB / 2 iterations).
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginThrottleBenchmarkTest {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private LoginRateLimiter loginRateLimiter;
+    private BCryptPasswordEncoder bcrypt;
+    private Argon2PasswordEncoder argon2;
+    private String bcryptHash;
+    private String argon2Hash;
+
+    @Setup
+    public void setUp() {
+        // One attempt per IP and account per hour: every benchmarked attempt after the first is rejected
+        loginRateLimiter = new LoginRateLimiter(1, 1, 1, 3_600_000L, 1_000, new SimpleMeterRegistry());
+        loginRateLimiter.checkAllowed("203.0.113.7", "user@example.com");
+        bcrypt = new BCryptPasswordEncoder(10);
+        argon2 = new Argon2PasswordEncoder(16, 32, 1, 19_456, 2);
+        bcryptHash = bcrypt.encode(PASSWORD);
+        argon2Hash = argon2.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public Object throttledAttempt() {
+        try {
+            loginRateLimiter.checkAllowed("203.0.113.7", "user@example.com");
+            throw new IllegalStateException("Attempt was not throttled");
+        } catch (TooManyRequestsException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public boolean bcryptCheck() {
+        return bcrypt.matches(PASSWORD, bcryptHash);
+    }
+
+    @Benchmark
+    public boolean argon2Check() {
+        return argon2.matches(PASSWORD, argon2Hash);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws Exception {
+        assertThat(new Runner(new OptionsBuilder()
+                .include(LoginThrottleBenchmarkTest.class.getSimpleName())
+                .build())
+                .run())
+                .isNotEmpty();
+    }
+}
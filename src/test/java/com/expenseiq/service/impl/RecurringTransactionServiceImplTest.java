@@ -0,0 +1,52 @@
+package com.expenseiq.service.impl;
+
+import com.expenseiq.enums.Frequency;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecurringTransactionServiceImplTest {
+
+    @Test
+    void monthlyScheduleOnThe31stReturnsToThe31stAfterShortMonths() {
+        assertThat(occurrences(LocalDate.of(2024, 1, 31), Frequency.MONTHLY, 5)).containsExactly(
+                LocalDate.of(2024, 1, 31),
+                LocalDate.of(2024, 2, 29),
+                LocalDate.of(2024, 3, 31),
+                LocalDate.of(2024, 4, 30),
+                LocalDate.of(2024, 5, 31));
+    }
+
+    @Test
+    void yearlyScheduleOnFeb29ReturnsToFeb29InLeapYears() {
+        assertThat(occurrences(LocalDate.of(2024, 2, 29), Frequency.YEARLY, 5)).containsExactly(
+                LocalDate.of(2024, 2, 29),
+                LocalDate.of(2025, 2, 28),
+                LocalDate.of(2026, 2, 28),
+                LocalDate.of(2027, 2, 28),
+                LocalDate.of(2028, 2, 29));
+    }
+
+    @Test
+    void dailyAndWeeklySchedulesStepFromThePreviousOccurrence() {
+        LocalDate start = LocalDate.of(2024, 2, 28);
+        assertThat(RecurringTransactionServiceImpl.nextOccurrence(start, start, Frequency.DAILY))
+                .isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(RecurringTransactionServiceImpl.nextOccurrence(start, start, Frequency.WEEKLY))
+                .isEqualTo(LocalDate.of(2024, 3, 6));
+    }
+
+    private static List<LocalDate> occurrences(LocalDate start, Frequency frequency, int count) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = start;
+        for (int i = 0; i < count; i++) {
+            dates.add(date);
+            date = RecurringTransactionServiceImpl.nextOccurrence(start, date, frequency);
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,119 @@
+package com.expenseiq.service.impl;
+
+import com.expenseiq.dto.request.TransactionRequest;
+import com.expenseiq.enums.TransactionType;
+import com.expenseiq.service.TransactionService;
+import com.expenseiq.support.TransactionFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.expenseiq.support.TransactionFixtures.accountId;
+import static com.expenseiq.support.TransactionFixtures.categoryId;
+import static com.expenseiq.support.TransactionFixtures.userId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Posts transactions against one account from many threads through the service, so a balance
+ * update that reads, modifies and writes the account anywhere on that path loses updates and
+ * fails the final balance check. Each expense also numbers an outbox event under the user's
+ * sequence row, which must count every one of them.
+ */
+// All threads queue on one account row, so requests wait on the pool far longer than in service
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.hikari.connection-timeout=120000")
+@ActiveProfiles("test")
+class TransactionServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int TRANSACTIONS = 10_000;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createAccount() {
+        TransactionFixtures.load(jdbcTemplate, 1, 0);
+        jdbcTemplate.update("UPDATE categories SET type = 'INCOME' WHERE id = ?", categoryId(0, 1));
+    }
+
+    @AfterEach
+    void removeAccount() {
+        TransactionFixtures.clear(jdbcTemplate);
+    }
+
+    @Test
+    void concurrentTransactionsDoNotLoseBalanceUpdates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BigDecimal>> workers = new ArrayList<>();
+
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                int first = thread;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    BigDecimal applied = BigDecimal.ZERO;
+                    // Mixed income and expenses with cents over a few months, split across the threads
+                    for (int n = first; n < TRANSACTIONS; n += THREADS) {
+                        boolean income = n % 3 == 0;
+                        BigDecimal amount = BigDecimal.valueOf(n % 997 + 1, 2);
+                        transactionService.createTransaction(userId(0), request(
+                                income ? TransactionType.INCOME : TransactionType.EXPENSE,
+                                categoryId(0, income ? 1 : 0),
+                                amount,
+                                LocalDate.of(2024, 1 + n % 3, 1 + n % 28)));
+                        applied = income ? applied.add(amount) : applied.subtract(amount);
+                    }
+                    return applied;
+                }));
+            }
+            start.countDown();
+
+            BigDecimal expected = BigDecimal.ZERO;
+            for (Future<BigDecimal> worker : workers) {
+                expected = expected.add(worker.get(5, TimeUnit.MINUTES));
+            }
+
+            BigDecimal balance = jdbcTemplate.queryForObject(
+                    "SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, accountId(0, 0));
+            Integer posted = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM transactions WHERE account_id = ?", Integer.class, accountId(0, 0));
+            Long outboxSequence = jdbcTemplate.queryForObject(
+                    "SELECT last_sequence FROM outbox_sequences WHERE user_id = ?", Long.class, userId(0));
+            assertThat(posted).isEqualTo(TRANSACTIONS);
+            assertThat(balance).isEqualByComparingTo(expected);
+            assertThat(outboxSequence).isEqualTo(TRANSACTIONS - (TRANSACTIONS + 2) / 3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static TransactionRequest request(TransactionType type, Long categoryId, BigDecimal amount, LocalDate date) {
+        TransactionRequest request = new TransactionRequest();
+        request.setType(type);
+        request.setCategoryId(categoryId);
+        request.setAccountId(accountId(0, 0));
+        request.setAmount(amount);
+        request.setDescription(type == TransactionType.INCOME ? "Refund" : "Purchase");
+        request.setDate(date);
+        return request;
+    }
+}
@@ -0,0 +1,27 @@
+package com.expenseiq.support;
+
+import com.expenseiq.config.JpaConfig;
+import com.expenseiq.security.SecurityUserCache;
+import com.expenseiq.security.TokenRevocationList;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * JPA slice against the in-memory H2 of the test profile, with auditing enabled. The
+ * collaborators of the User entity listener live outside the slice and are mocked.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+public abstract class AbstractRepositoryTest {
+
+    @MockBean
+    protected SecurityUserCache securityUserCache;
+
+    @MockBean
+    protected TokenRevocationList tokenRevocationList;
+}
@@ -0,0 +1,41 @@
+package com.expenseiq.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Records the SQL Hibernate prepares on the current thread while {@link #capture} runs, so tests
+ * can inspect the statements a repository method really issues. Registered as the statement
+ * inspector of the test profile; outside a capture it passes statements through untouched.
+ */
+public class SqlCapture implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = CAPTURED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    /** Runs the action and returns the single statement it prepared. */
+    public static String capture(Supplier<?> action) {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            action.get();
+        } finally {
+            CAPTURED.remove();
+        }
+        if (statements.size() != 1) {
+            throw new IllegalStateException("Expected one statement, captured " + statements);
+        }
+        return statements.get(0);
+    }
+}
@@ -0,0 +1,90 @@
+package com.expenseiq.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * Bulk-loads users, accounts, categories and transactions with plain SQL so tests can work
+ * against realistically sized tables without going through the entity layer.
+ * Ids start at {@link #FIRST_ID} to stay clear of sequence-allocated rows.
+ */
+public final class TransactionFixtures {
+
+    public static final long FIRST_ID = 10_000_000L;
+    public static final int ACCOUNTS_PER_USER = 4;
+    public static final int CATEGORIES_PER_USER = 10;
+    public static final LocalDate FIRST_DATE = LocalDate.of(2022, 1, 1);
+    public static final int DAYS = 3 * 365;
+
+    private TransactionFixtures() {
+    }
+
+    public static long userId(int user) {
+        return FIRST_ID + user;
+    }
+
+    public static long accountId(int user, int account) {
+        return FIRST_ID + (long) user * ACCOUNTS_PER_USER + account;
+    }
+
+    public static long categoryId(int user, int category) {
+        return FIRST_ID + (long) user * CATEGORIES_PER_USER + category;
+    }
+
+    /**
+     * Inserts {@code users} users, each owning {@code transactionsPerUser} transactions spread
+     * over their accounts, categories and {@link #DAYS} days from {@link #FIRST_DATE}.
+     */
+    public static void load(JdbcTemplate jdbc, int users, int transactionsPerUser) {
+        jdbc.update("""
+                INSERT INTO users (id, email, password, name, currency, role, enabled, created_at)
+                SELECT ? + X, CONCAT('fixture', X, '@example.com'), 'x', CONCAT('Fixture ', X),
+                       'USD', 'USER', TRUE, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(0, ? - 1)
+                """, FIRST_ID, users);
+        jdbc.update("""
+                INSERT INTO accounts (id, user_id, name, type, balance, created_at)
+                SELECT ? + X, ? + X / ?, CONCAT('Account ', X), 'BANK', 0, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(0, ? - 1)
+                """, FIRST_ID, FIRST_ID, ACCOUNTS_PER_USER, users * ACCOUNTS_PER_USER);
+        jdbc.update("""
+                INSERT INTO categories (id, user_id, name, type, is_default, created_at)
+                SELECT ? + X, ? + X / ?, CONCAT('Category ', X), 'EXPENSE', FALSE, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(0, ? - 1)
+                """, FIRST_ID, FIRST_ID, CATEGORIES_PER_USER, users * CATEGORIES_PER_USER);
+        // Row X belongs to user X / perUser; account, category and day cycle at coprime strides
+        jdbc.update("""
+                INSERT INTO transactions (id, user_id, account_id, category_id, type, amount,
+                                          description, date, is_recurring, created_at)
+                SELECT ? + X,
+                       ? + X / ?,
+                       ? + (X / ?) * ? + MOD(X, ?),
+                       ? + (X / ?) * ? + MOD(X, ?),
+                       'EXPENSE',
+                       MOD(X, 997) + 0.99,
+                       CONCAT('Payment ', MOD(X, 5000)),
+                       DATEADD(DAY, MOD(X * 7, ?), CAST(? AS DATE)),
+                       FALSE,
+                       CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(0, ? - 1)
+                """,
+                FIRST_ID,
+                FIRST_ID, transactionsPerUser,
+                FIRST_ID, transactionsPerUser, ACCOUNTS_PER_USER, ACCOUNTS_PER_USER,
+                FIRST_ID, transactionsPerUser, CATEGORIES_PER_USER, CATEGORIES_PER_USER,
+                DAYS, FIRST_DATE,
+                (long) users * transactionsPerUser);
+        jdbc.execute("ANALYZE");
+    }
+
+    /** Removes the fixture users with everything they own, including rows written through the services. */
+    public static void clear(JdbcTemplate jdbc) {
+        for (String table : new String[] {"outbox_events", "outbox_sequences", "monthly_category_totals", "transactions"}) {
+            jdbc.update("DELETE FROM " + table + " WHERE user_id >= ?", FIRST_ID);
+        }
+        for (String table : new String[] {"categories", "accounts", "users"}) {
+            jdbc.update("DELETE FROM " + table + " WHERE id >= ?", FIRST_ID);
+        }
+    }
+}